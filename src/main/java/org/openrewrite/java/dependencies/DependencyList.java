@@ -22,6 +22,11 @@ import org.openrewrite.*;
 import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
 import org.openrewrite.gradle.marker.GradleProject;
 import org.openrewrite.internal.ExceptionUtils;
+import org.openrewrite.java.dependencies.internal.ResolverExecutionContext;
+import org.openrewrite.java.dependencies.internal.ResolverExecutors;
+import org.openrewrite.java.dependencies.table.DependencyGraphEdges;
+import org.openrewrite.java.dependencies.table.DependencyGraphNodes;
+import org.openrewrite.java.dependencies.table.DependencyGraphProjects;
 import org.openrewrite.java.dependencies.table.DependencyListReport;
 import org.openrewrite.marker.Markers;
 import org.openrewrite.maven.MavenDownloadingException;
@@ -31,23 +36,31 @@ import org.openrewrite.maven.internal.MavenPomDownloader;
 import org.openrewrite.maven.table.MavenMetadataFailures;
 import org.openrewrite.maven.tree.*;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
-public class DependencyList extends Recipe {
+public class DependencyList extends ScanningRecipe<DependencyList.Accumulator> {
+    private static final int MAX_CONCURRENT_VALIDATIONS = 8;
 
     transient DependencyListReport report = new DependencyListReport(this);
     transient MavenMetadataFailures metadataFailures = new MavenMetadataFailures(this);
+    transient DependencyGraphProjects graphProjects = new DependencyGraphProjects(this);
+    transient DependencyGraphNodes graphNodes = new DependencyGraphNodes(this);
+    transient DependencyGraphEdges graphEdges = new DependencyGraphEdges(this);
 
     @Option(displayName = "Scope",
-            description = "The scope of the dependencies to include in the report." +
+            description = "The scope of the dependencies to include in the report. " +
+                          "\"All\" walks every scope at once and reports each dependency once, with all of the scopes it is in. " +
                           "Defaults to \"Compile\"",
-            valid = {"Compile", "Runtime", "TestRuntime"},
+            valid = {"Compile", "Runtime", "TestRuntime", "All"},
             required = false,
             example = "Compile")
     @Nullable
@@ -70,19 +83,130 @@ public class DependencyList extends Recipe {
             example = "true")
     boolean validateResolvable;
 
-    /**
-     * Freestanding gradle script plugins get assigned the same GradleProject marker with the build script in the project.
-     * Keep track of the ones which have been seen to minimize duplicate entries in the report.
-     */
-    transient Set<GroupArtifactVersion> seenGradleProjects = new HashSet<>();
+    @Option(displayName = "Normalized",
+            description = "When enabled, the dependency graph is written to three normalized data tables instead of the dependency report: " +
+                          "the projects, the distinct dependencies, and the edges between a project or dependency and the dependencies it " +
+                          "depends on, all referring to each other by id. Each dependency is listed once, however many projects use it. " +
+                          "Defaults to false.",
+            required = false,
+            example = "true")
+    @Nullable
+    Boolean normalized;
 
     String displayName = "Dependency report";
 
     String description = "Emits a data table detailing all Gradle and Maven dependencies. " +
                "This recipe makes no changes to any source file.";
 
+    public static class Accumulator {
+        /**
+         * Freestanding gradle script plugins get assigned the same GradleProject marker with the build script in the project.
+         * Keep track of the ones which have been seen to minimize duplicate entries in the report.
+         */
+        final Set<GroupArtifactVersion> seenGradleProjects = new HashSet<>();
+
+        /**
+         * The dependencies already reported for each project, shared by every source file of the project. Gradle projects
+         * are keyed by their coordinates and Maven modules by their marker.
+         */
+        final Map<String, Set<ResolvedGroupArtifactVersion>> reportedByProject = new HashMap<>();
+
+        /**
+         * In normalized mode, the ids of projects and dependencies, assigned in the order they are first seen.
+         */
+        final Map<String, Integer> projectIds = new HashMap<>();
+        final Map<GroupArtifactVersion, Integer> nodeIds = new HashMap<>();
+
+        /**
+         * In normalized mode, the edges already written for each project, each packed as the parent node id in the high
+         * bits and the child node id in the low bits.
+         */
+        final Map<Integer, Set<Long>> edgesByProject = new HashMap<>();
+
+        /**
+         * Validation only depends on the project's coordinates and the repositories it is resolved from, so each distinct
+         * request is downloaded once, concurrently with the others, and its outcome is shared by every row of the project.
+         * A null outcome means the project's metadata could be downloaded.
+         */
+        final Map<ValidationRequest, CompletableFuture<@Nullable MavenDownloadingException>> validations = new HashMap<>();
+
+        /**
+         * Failed requests whose metadata failures have already been inserted into the data table.
+         */
+        final Set<ValidationRequest> reportedFailures = new HashSet<>();
+
+        @Nullable
+        ExecutorService executor;
+
+        void submit(ValidationRequest request, ExecutionContext ctx, Function<ExecutionContext, MavenPomDownloader> downloader) {
+            validations.computeIfAbsent(request, r -> {
+                if (executor == null) {
+                    executor = ResolverExecutors.newFixedThreadPool("dependency-list-validator", MAX_CONCURRENT_VALIDATIONS);
+                }
+                // Created here, on the scanning thread, so that it captures the run's context as it is now
+                ExecutionContext validatorCtx = new ResolverExecutionContext(ctx);
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        downloader.apply(validatorCtx).downloadMetadata(r.getGroupArtifact(), null, r.getRepositories());
+                        return null;
+                    } catch (MavenDownloadingException e) {
+                        return e;
+                    }
+                }, executor);
+            });
+        }
+
+        void awaitValidations() {
+            if (executor == null) {
+                return;
+            }
+            for (CompletableFuture<@Nullable MavenDownloadingException> validation : validations.values()) {
+                try {
+                    validation.join();
+                } catch (CompletionException e) {
+                    // Reported as a resolution failure of each row of the project
+                }
+            }
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    @Value
+    static class ValidationRequest {
+        GroupArtifact groupArtifact;
+        List<MavenRepository> repositories;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        if (!validateResolvable) {
+            return TreeVisitor.noop();
+        }
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree == null) {
+                    return null;
+                }
+                Markers m = tree.getMarkers();
+                m.findFirst(GradleProject.class).ifPresent(gradle ->
+                        acc.submit(validationRequest(gradle), ctx, DependencyList::gradleDownloader));
+                m.findFirst(MavenResolutionResult.class).ifPresent(maven ->
+                        acc.submit(validationRequest(maven), ctx, validatorCtx -> mavenDownloader(validatorCtx, maven)));
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        acc.awaitValidations();
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
@@ -90,117 +214,321 @@ public class DependencyList extends Recipe {
                     return null;
                 }
                 Markers m = tree.getMarkers();
-                Set<ResolvedGroupArtifactVersion> seen = new HashSet<>();
                 m.findFirst(GradleProject.class)
-                        .filter(gradle -> seenGradleProjects.add(new GroupArtifactVersion(gradle.getGroup(), gradle.getName(), gradle.getVersion())))
+                        .filter(gradle -> acc.seenGradleProjects.add(new GroupArtifactVersion(gradle.getGroup(), gradle.getName(), gradle.getVersion())))
                         .ifPresent(gradle -> {
-                            GradleDependencyConfiguration conf = gradle.getConfiguration(scope().asGradleConfigurationName());
-                            if (conf != null) {
-                                for (ResolvedDependency dep : conf.getResolved()) {
-                                    if (dep.getDepth() > 0) {
-                                        continue;
-                                    }
-                                    insertDependency(ctx, gradle, seen, dep, true);
+                            Map<Scope, List<ResolvedDependency>> resolvedByScope = new EnumMap<>(Scope.class);
+                            for (Scope s : scope().expand()) {
+                                GradleDependencyConfiguration conf = gradle.getConfiguration(s.asGradleConfigurationName());
+                                if (conf != null) {
+                                    resolvedByScope.put(s, conf.getResolved());
                                 }
                             }
+                            if (!resolvedByScope.isEmpty()) {
+                                String resolutionFailure = resolutionFailure(acc, ctx, validationRequest(gradle));
+                                insertDependencies(ctx, acc, projectKey(gradle), "Gradle", gradle.getGroup(), gradle.getName(),
+                                        gradle.getVersion(), resolvedByScope, resolutionFailure);
+                            }
                         });
                 m.findFirst(MavenResolutionResult.class).ifPresent(maven -> {
-                    for (ResolvedDependency dep : maven.getDependencies().get(scope().asMavenScope())) {
-                        if (dep.getDepth() > 0) {
-                            continue;
+                    Map<Scope, List<ResolvedDependency>> resolvedByScope = new EnumMap<>(Scope.class);
+                    for (Scope s : scope().expand()) {
+                        List<ResolvedDependency> resolved = maven.getDependencies().get(s.asMavenScope());
+                        if (resolved != null) {
+                            resolvedByScope.put(s, resolved);
                         }
-                        insertDependency(ctx, maven, seen, dep, true);
                     }
+                    String resolutionFailure = resolutionFailure(acc, ctx, validationRequest(maven));
+                    ResolvedPom pom = maven.getPom();
+                    insertDependencies(ctx, acc, projectKey(maven), "Maven", pom.getGroupId(), pom.getArtifactId(),
+                            pom.getVersion(), resolvedByScope, resolutionFailure);
                 });
                 return tree;
             }
         };
     }
 
+    /**
+     * Gradle projects are identified by their coordinates, like {@link Accumulator#seenGradleProjects}, so that script
+     * plugins sharing the marker of their build script are reported once.
+     */
+    private static String projectKey(GradleProject gradle) {
+        return "Gradle:" + gradle.getGroup() + ":" + gradle.getName() + ":" + gradle.getVersion();
+    }
+
+    /**
+     * Maven modules are identified by their marker, which belongs to a single POM, so that modules sharing the same
+     * coordinates are each reported in full.
+     */
+    private static String projectKey(MavenResolutionResult maven) {
+        return "Maven:" + maven.getId();
+    }
+
     private Scope scope() {
         return scope == null ? Scope.Compile : scope;
     }
 
-    private void insertDependency(ExecutionContext ctx, GradleProject gradle, Set<ResolvedGroupArtifactVersion> seen, ResolvedDependency dep, boolean direct) {
-        if (!seen.add(dep.getGav())) {
-            return;
+    private static ValidationRequest validationRequest(GradleProject gradle) {
+        return new ValidationRequest(new GroupArtifact(gradle.getGroup(), gradle.getName()), gradle.getMavenRepositories());
+    }
+
+    private static ValidationRequest validationRequest(MavenResolutionResult maven) {
+        return new ValidationRequest(new GroupArtifact(maven.getPom().getGroupId(), maven.getPom().getArtifactId()),
+                maven.getPom().getRepositories());
+    }
+
+    private static MavenPomDownloader gradleDownloader(ExecutionContext ctx) {
+        //noinspection DataFlowIssue
+        return new MavenPomDownloader(emptyMap(), ctx, null, null);
+    }
+
+    private static MavenPomDownloader mavenDownloader(ExecutionContext ctx, MavenResolutionResult maven) {
+        MavenExecutionContextView mctx = MavenExecutionContextView.view(ctx);
+        return new MavenPomDownloader(
+                emptyMap(), ctx,
+                mctx.getSettings() == null ? maven.getMavenSettings() :
+                        maven.getMavenSettings() == null ? mctx.getSettings() :
+                                mctx.getSettings().merge(maven.getMavenSettings()),
+                Optional.ofNullable(mctx.getSettings())
+                        .map(MavenSettings::getActiveProfiles)
+                        .map(MavenSettings.ActiveProfiles::getActiveProfiles)
+                        .orElse(maven.getActiveProfiles()));
+    }
+
+    /**
+     * Metadata failures are inserted into the data table on the recipe thread, once per failed request, from the
+     * failure the validation captured, so no request is downloaded more than once.
+     */
+    private String resolutionFailure(Accumulator acc, ExecutionContext ctx, ValidationRequest request) {
+        if (!validateResolvable) {
+            return "";
+        }
+        CompletableFuture<@Nullable MavenDownloadingException> validation = acc.validations.get(request);
+        if (validation == null) {
+            return "";
         }
-        String resolutionFailure = "";
-        if (validateResolvable) {
+        MavenDownloadingException failure;
+        try {
+            failure = validation.join();
+        } catch (CompletionException e) {
+            return ExceptionUtils.sanitizeStackTrace(e.getCause() == null ? e : e.getCause(), RecipeScheduler.class);
+        }
+        if (failure == null) {
+            return "";
+        }
+        if (acc.reportedFailures.add(request)) {
             try {
-                //noinspection DataFlowIssue
-                metadataFailures.insertRows(ctx, () -> new MavenPomDownloader(
-                        emptyMap(), ctx,
-                        null,
-                        null)
-                        .downloadMetadata(new GroupArtifact(gradle.getGroup(), gradle.getName()), null, gradle.getMavenRepositories()));
+                metadataFailures.insertRows(ctx, () -> {
+                    throw failure;
+                });
             } catch (MavenDownloadingException e) {
-                resolutionFailure = ExceptionUtils.sanitizeStackTrace(e, RecipeScheduler.class);
+                // Also reported as the resolution failure of each row
             }
         }
-        report.insertRow(ctx, new DependencyListReport.Row(
-                "Gradle",
-                gradle.getGroup(),
-                gradle.getName(),
-                gradle.getVersion(),
-                dep.getGroupId(),
-                dep.getArtifactId(),
-                dep.getVersion(),
-                direct,
-                resolutionFailure
-        ));
-        if (includeTransitive) {
-            for (ResolvedDependency transitive : dep.getDependencies()) {
-                insertDependency(ctx, gradle, seen, transitive, false);
-            }
+        return ExceptionUtils.sanitizeStackTrace(failure, RecipeScheduler.class);
+    }
+
+    @Value
+    private static class Visit {
+        ResolvedDependency dependency;
+        int depth;
+
+        /**
+         * The dependencies leading from a direct dependency to this one, separated by " > ".
+         */
+        String parentPath;
+
+        /**
+         * In normalized mode, the node id of the dependency this one was reached through, or -1 for a direct dependency.
+         */
+        int parentNodeId;
+
+        /**
+         * The {@link Scope#getMask() masks} of the scopes this dependency is reached in through this path.
+         */
+        int scopes;
+    }
+
+    /**
+     * A dependency of the project, at the shallowest depth and through the path where it was reached in any scope.
+     */
+    private static class Node {
+        final ResolvedDependency dependency;
+        int depth;
+        String parentPath;
+        int scopes;
+
+        Node(ResolvedDependency dependency, int depth, String parentPath) {
+            this.dependency = dependency;
+            this.depth = depth;
+            this.parentPath = parentPath;
         }
     }
 
-    private void insertDependency(ExecutionContext ctx, MavenResolutionResult maven, Set<ResolvedGroupArtifactVersion> seen, ResolvedDependency dep, boolean direct) {
-        if (!seen.add(dep.getGav())) {
+    /**
+     * Reports the dependencies of one project in depth-first order, walking the graph with an explicit stack so that
+     * deep graphs can't overflow the call stack. Each dependency is reported once per project, at the shallowest depth
+     * and through the path where it is reached in any scope, so that it is direct when it is direct in any scope, along
+     * with every requested scope it is reached in. A dependency is only expanded again when it is reached in a scope it
+     * was not yet known to be in, or closer to the project than before, so the part of the graph shared by several
+     * scopes is walked once when the same resolved dependencies are shared between them.
+     */
+    private void insertDependencies(ExecutionContext ctx, Accumulator acc, String projectKey, String buildTool, String groupId,
+                                    String artifactId, String version, Map<Scope, List<ResolvedDependency>> resolvedByScope,
+                                    String resolutionFailure) {
+        if (resolvedByScope.isEmpty()) {
             return;
         }
-        String resolutionFailure = "";
-        if (validateResolvable) {
-            try {
-                MavenExecutionContextView mctx = MavenExecutionContextView.view(ctx);
-                metadataFailures.insertRows(ctx, () -> new MavenPomDownloader(
-                        emptyMap(), ctx,
-                        mctx.getSettings() == null ? maven.getMavenSettings() :
-                                maven.getMavenSettings() == null ? mctx.getSettings() :
-                                        mctx.getSettings().merge(maven.getMavenSettings()),
-                        Optional.ofNullable(mctx.getSettings())
-                                .map(MavenSettings::getActiveProfiles)
-                                .map(MavenSettings.ActiveProfiles::getActiveProfiles)
-                                .orElse(maven.getActiveProfiles()))
-                        .downloadMetadata(new GroupArtifact(maven.getPom().getGroupId(), maven.getPom().getArtifactId()), null, maven.getPom().getRepositories()));
-            } catch (MavenDownloadingException e) {
-                resolutionFailure = ExceptionUtils.sanitizeStackTrace(e, RecipeScheduler.class);
+        Set<ResolvedGroupArtifactVersion> reported = acc.reportedByProject.computeIfAbsent(projectKey, k -> new HashSet<>());
+        boolean normalize = Boolean.TRUE.equals(normalized);
+        int projectId = -1;
+        if (normalize) {
+            Integer id = acc.projectIds.get(projectKey);
+            if (id == null) {
+                id = acc.projectIds.size();
+                acc.projectIds.put(projectKey, id);
+                graphProjects.insertRow(ctx, new DependencyGraphProjects.Row(id, buildTool, groupId, artifactId, version, resolutionFailure));
             }
+            projectId = id;
         }
-        report.insertRow(ctx, new DependencyListReport.Row(
-                "Maven",
-                maven.getPom().getGroupId(),
-                maven.getPom().getArtifactId(),
-                maven.getPom().getVersion(),
-                dep.getGroupId(),
-                dep.getArtifactId(),
-                dep.getVersion(),
-                direct,
-                resolutionFailure
-        ));
-        if (includeTransitive) {
-            for (ResolvedDependency transitive : dep.getDependencies()) {
-                insertDependency(ctx, maven, seen, transitive, false);
+
+        Map<ResolvedGroupArtifactVersion, Node> nodes = new LinkedHashMap<>();
+        Map<Long, Integer> edgeScopes = new LinkedHashMap<>();
+        Deque<Visit> stack = new ArrayDeque<>();
+        // Scopes are pushed in reverse too, so that the narrowest scope is walked first
+        List<Scope> scopes = new ArrayList<>(resolvedByScope.keySet());
+        for (int i = scopes.size() - 1; i >= 0; i--) {
+            pushAll(stack, resolvedByScope.get(scopes.get(i)), 0, "", -1, scopes.get(i).getMask(), true);
+        }
+        while (!stack.isEmpty()) {
+            Visit visit = stack.pop();
+            ResolvedDependency dep = visit.getDependency();
+            int nodeId = -1;
+            if (normalize) {
+                nodeId = nodeId(ctx, acc, dep);
+                // An edge is recorded even when its child was already reached through another parent
+                edgeScopes.merge(((long) visit.getParentNodeId() << 32) | nodeId, visit.getScopes(), (s1, s2) -> s1 | s2);
             }
+            Node node = nodes.get(dep.getGav());
+            if (node == null) {
+                if (reported.contains(dep.getGav())) {
+                    // Already reported for another source file of the project
+                    continue;
+                }
+                node = new Node(dep, visit.getDepth(), visit.getParentPath());
+                nodes.put(dep.getGav(), node);
+            }
+            int newScopes = visit.getScopes() & ~node.scopes;
+            boolean shallower = visit.getDepth() < node.depth;
+            if (newScopes == 0 && !shallower) {
+                continue;
+            }
+            node.scopes |= newScopes;
+            if (shallower) {
+                // Its dependencies are walked again along with it, so that they are reported closer to the project too
+                node.depth = visit.getDepth();
+                node.parentPath = visit.getParentPath();
+            }
+            if (includeTransitive && !dep.getDependencies().isEmpty()) {
+                String parentPath = "";
+                if (!normalize) {
+                    String coordinates = dep.getGroupId() + ":" + dep.getArtifactId() + ":" + dep.getVersion();
+                    parentPath = visit.getParentPath().isEmpty() ? coordinates : visit.getParentPath() + " > " + coordinates;
+                }
+                pushAll(stack, dep.getDependencies(), visit.getDepth() + 1, parentPath, nodeId,
+                        shallower ? visit.getScopes() : newScopes, false);
+            }
+        }
+
+        for (Node node : nodes.values()) {
+            reported.add(node.dependency.getGav());
+            if (normalize) {
+                continue;
+            }
+            report.insertRow(ctx, new DependencyListReport.Row(
+                    buildTool,
+                    groupId,
+                    artifactId,
+                    version,
+                    node.dependency.getGroupId(),
+                    node.dependency.getArtifactId(),
+                    node.dependency.getVersion(),
+                    node.depth == 0,
+                    node.depth,
+                    node.parentPath,
+                    node.scopes,
+                    resolutionFailure
+            ));
+        }
+        if (normalize) {
+            Set<Long> edges = acc.edgesByProject.computeIfAbsent(projectId, k -> new HashSet<>());
+            for (Map.Entry<Long, Integer> edge : edgeScopes.entrySet()) {
+                if (edges.add(edge.getKey())) {
+                    int parentNodeId = (int) (edge.getKey() >> 32);
+                    graphEdges.insertRow(ctx, new DependencyGraphEdges.Row(projectId,
+                            parentNodeId < 0 ? null : parentNodeId, (int) (long) edge.getKey(), edge.getValue()));
+                }
+            }
+        }
+    }
+
+    private int nodeId(ExecutionContext ctx, Accumulator acc, ResolvedDependency dep) {
+        GroupArtifactVersion gav = new GroupArtifactVersion(dep.getGroupId(), dep.getArtifactId(), dep.getVersion());
+        Integer id = acc.nodeIds.get(gav);
+        if (id == null) {
+            id = acc.nodeIds.size();
+            acc.nodeIds.put(gav, id);
+            graphNodes.insertRow(ctx, new DependencyGraphNodes.Row(id, dep.getGroupId(), dep.getArtifactId(), dep.getVersion()));
+        }
+        return id;
+    }
+
+    /**
+     * Pushes in reverse, so that dependencies are popped, and reported, in the order they are declared.
+     */
+    private static void pushAll(Deque<Visit> stack, List<ResolvedDependency> dependencies, int depth, String parentPath,
+                                int parentNodeId, int scopes, boolean directOnly) {
+        for (int i = dependencies.size() - 1; i >= 0; i--) {
+            ResolvedDependency dep = dependencies.get(i);
+            if (directOnly && dep.getDepth() > 0) {
+                continue;
+            }
+            stack.push(new Visit(dep, depth, parentPath, parentNodeId, scopes));
         }
     }
 
     public enum Scope {
-        Compile,
-        Runtime,
-        TestRuntime;
+        Compile(1),
+        Runtime(2),
+        TestRuntime(4),
+        All(7);
+
+        private final int mask;
+
+        Scope(int mask) {
+            this.mask = mask;
+        }
+
+        /**
+         * @return The bit of the scope in the scopes column of the dependency report, or all of their bits for {@link #All}.
+         */
+        public int getMask() {
+            return mask;
+        }
+
+        /**
+         * @return The single scopes this one spans, in order from the narrowest to the broadest: the scope itself, or
+         * each of the other scopes for {@link #All}.
+         */
+        public List<Scope> expand() {
+            return this == All ? Arrays.asList(Compile, Runtime, TestRuntime) : singletonList(this);
+        }
 
+        /**
+         * @return The Maven scope of a single scope.
+         * @throws IllegalStateException For {@link #All}, which spans several Maven scopes. Pass each of its
+         *                               {@link #expand() expanded} scopes instead.
+         */
         public org.openrewrite.maven.tree.Scope asMavenScope() {
             switch (this) {
                 case Compile:
@@ -210,10 +538,15 @@ public class DependencyList extends Recipe {
                 case TestRuntime:
                     return org.openrewrite.maven.tree.Scope.Test;
                 default:
-                    throw new IllegalStateException("Unexpected value: " + this);
+                    throw new IllegalStateException(this + " spans several scopes, use each of its expanded scopes instead");
             }
         }
 
+        /**
+         * @return The Gradle configuration of a single scope.
+         * @throws IllegalStateException For {@link #All}, which spans several Gradle configurations. Pass each of its
+         *                               {@link #expand() expanded} scopes instead.
+         */
         public String asGradleConfigurationName() {
             switch (this) {
                 case Compile:
@@ -223,7 +556,7 @@ public class DependencyList extends Recipe {
                 case TestRuntime:
                     return "testRuntimeClasspath";
                 default:
-                    throw new IllegalStateException("Unexpected value: " + this);
+                    throw new IllegalStateException(this + " spans several scopes, use each of its expanded scopes instead");
             }
         }
     }
@@ -23,19 +23,82 @@ import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
 import org.openrewrite.gradle.marker.GradleProject;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.dependencies.internal.DependencyClosureCache;
+import org.openrewrite.java.dependencies.internal.ResolverExecutionContext;
+import org.openrewrite.java.dependencies.internal.ResolverExecutors;
+import org.openrewrite.java.dependencies.table.RedundantDependencyResolutionReport;
 import org.openrewrite.maven.MavenDownloadingException;
 import org.openrewrite.maven.MavenDownloadingExceptions;
+import org.openrewrite.maven.MavenIsoVisitor;
 import org.openrewrite.maven.internal.MavenPomDownloader;
 import org.openrewrite.maven.tree.*;
+import org.openrewrite.xml.RemoveContentVisitor;
+import org.openrewrite.xml.tree.Xml;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 import static java.util.Collections.*;
 
+/**
+ * Removes dependencies that are already brought in transitively by a parent dependency.
+ * <p>
+ * Resolving the closure of a parent dependency that the project does not resolve itself downloads its POMs. Those
+ * closures can be kept across runs through the API only, by putting a {@link DependencyClosureCache} into the
+ * {@link ExecutionContext} under {@link DependencyClosureCache#CONTEXT_KEY} before the run. The recipe has no
+ * option for it because the cache writes to disk.
+ */
 @EqualsAndHashCode(callSuper = false)
 @Value
 public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantDependencies.Accumulator> {
 
+    transient RedundantDependencyResolutionReport resolutionReport = new RedundantDependencyResolutionReport(this);
+
+    /**
+     * Upper bound on the number of parent dependency POMs being downloaded and resolved at the same time.
+     */
+    private static final int MAX_CONCURRENT_RESOLUTIONS = 8;
+
+    /**
+     * For each Gradle configuration, the configurations whose dependencies are also on its classpath.
+     */
+    private static final Map<String, List<String>> BROADER_GRADLE_SCOPES = new HashMap<>();
+
+    /**
+     * For each Maven scope, the scopes whose dependencies are also on its classpath.
+     */
+    private static final Map<String, List<String>> BROADER_MAVEN_SCOPES = new HashMap<>();
+
+    private static final Map<String, List<String>> NARROWER_GRADLE_SCOPES;
+    private static final Map<String, List<String>> NARROWER_MAVEN_SCOPES;
+
+    static {
+        BROADER_GRADLE_SCOPES.put("runtimeonly", Arrays.asList("implementation", "api"));
+        BROADER_GRADLE_SCOPES.put("runtimeclasspath", Arrays.asList("implementation", "api"));
+        BROADER_GRADLE_SCOPES.put("implementation", singletonList("api"));
+        BROADER_GRADLE_SCOPES.put("testimplementation", Arrays.asList("implementation", "api"));
+        BROADER_GRADLE_SCOPES.put("testruntimeonly", Arrays.asList("implementation", "api", "testimplementation"));
+
+        BROADER_MAVEN_SCOPES.put("runtime", singletonList("compile"));
+        BROADER_MAVEN_SCOPES.put("provided", Arrays.asList("compile", "runtime"));
+        BROADER_MAVEN_SCOPES.put("test", Arrays.asList("compile", "runtime", "provided"));
+
+        NARROWER_GRADLE_SCOPES = invert(BROADER_GRADLE_SCOPES);
+        NARROWER_MAVEN_SCOPES = invert(BROADER_MAVEN_SCOPES);
+    }
+
+    private static Map<String, List<String>> invert(Map<String, List<String>> broaderScopes) {
+        Map<String, List<String>> narrowerScopes = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : broaderScopes.entrySet()) {
+            for (String broader : entry.getValue()) {
+                narrowerScopes.computeIfAbsent(broader, k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        return narrowerScopes;
+    }
+
     @Option(displayName = "Group ID",
             description = "The first part of a dependency coordinate `com.google.guava:guava:VERSION` of the parent dependency. This can be a glob expression.",
             example = "com.fasterxml.jackson.core")
@@ -49,18 +112,130 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
     String displayName = "Remove redundant explicit dependencies";
 
     String description = "Remove explicit dependencies that are already provided transitively by a specified dependency. " +
-                "This recipe downloads and resolves the parent dependency's POM to determine its true transitive " +
-                "dependencies, allowing it to detect redundancies even when both dependencies are explicitly declared.";
+                "This recipe determines the parent dependency's true transitive dependencies from the project's resolved " +
+                "dependency tree when the versions recorded there can be trusted, and otherwise downloads and resolves " +
+                "the parent dependency's POM, allowing it to detect redundancies even when both dependencies are explicitly declared.";
 
-    @Value
     public static class Accumulator {
-        // Map from project identifier -> scope/configuration -> Set of transitive GAVs
-        Map<String, Map<String, Set<ResolvedGroupArtifactVersion>>> transitivesByProjectAndScope;
+        // Map from project identifier -> scope/configuration -> transitive GAVs of parents declared in exactly that scope
+        final Map<String, Map<String, Set<GroupArtifactVersion>>> declaredGradleTransitives = new HashMap<>();
+        final Map<String, Map<String, Set<GroupArtifactVersion>>> declaredMavenTransitives = new HashMap<>();
+
+        // The same, but each scope/configuration also includes the transitives of every broader scope
+        final Map<String, Map<String, Set<GroupArtifactVersion>>> gradleTransitivesByProjectAndScope = new HashMap<>();
+        final Map<String, Map<String, Set<GroupArtifactVersion>>> mavenTransitivesByProjectAndScope = new HashMap<>();
+
+        // In-flight and completed resolutions, so that the same parent dependency is only resolved once
+        final Map<ResolutionRequest, Resolution> resolutions = new HashMap<>();
+
+        // Resolutions whose results have not yet been indexed
+        final List<PendingResolution> pending = new ArrayList<>();
+
+        final Set<RedundantDependencyResolutionReport.Row> reportedSources = new HashSet<>();
+
+        @Nullable
+        ExecutorService executor;
+
+        Resolution submit(ResolutionRequest request, ExecutionContext ctx) {
+            return resolutions.computeIfAbsent(request, r -> {
+                DependencyClosureCache cache = DependencyClosureCache.get(ctx);
+                String cacheKey = cache != null && DependencyClosureCache.isCacheable(r.getGav().getVersion()) ?
+                        cache.key(r.getGav().asGroupArtifactVersion(), r.getEffectiveExclusions(), r.getRepositories()) :
+                        null;
+                if (cache != null && cacheKey != null) {
+                    Set<GroupArtifactVersion> cached = cache.get(cacheKey);
+                    if (cached != null) {
+                        return new Resolution(CompletableFuture.completedFuture(cached), "Cached closure");
+                    }
+                }
+
+                if (executor == null) {
+                    executor = ResolverExecutors.newFixedThreadPool("remove-redundant-dependencies-resolver", MAX_CONCURRENT_RESOLUTIONS);
+                }
+                // Created here, on the scanning thread, so that it captures the run's context as it is now
+                ExecutionContext resolverCtx = new ResolverExecutionContext(ctx);
+                return new Resolution(CompletableFuture.supplyAsync(() -> {
+                    Set<GroupArtifactVersion> transitives = resolveTransitivesFromPom(r, resolverCtx);
+                    if (transitives == null) {
+                        return emptySet();
+                    }
+                    if (cache != null && cacheKey != null) {
+                        cache.put(cacheKey, transitives);
+                    }
+                    return transitives;
+                }, executor), "Downloaded POM");
+            });
+        }
+
+        void awaitResolutions() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                for (PendingResolution p : pending) {
+                    Set<GroupArtifactVersion> transitives = (p.isGradle() ? declaredGradleTransitives : declaredMavenTransitives)
+                            .computeIfAbsent(p.getProjectId(), k -> new HashMap<>())
+                            .computeIfAbsent(p.getScope().toLowerCase(), k -> new HashSet<>());
+                    try {
+                        transitives.addAll(p.getResolution().join());
+                    } catch (CompletionException e) {
+                        // A POM that can't be downloaded already resolves to no transitives, so this is a failure to report
+                        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                    }
+                }
+            } finally {
+                pending.clear();
+                if (executor != null) {
+                    executor.shutdown();
+                    executor = null;
+                }
+            }
+
+            index(declaredGradleTransitives, gradleTransitivesByProjectAndScope, NARROWER_GRADLE_SCOPES);
+            index(declaredMavenTransitives, mavenTransitivesByProjectAndScope, NARROWER_MAVEN_SCOPES);
+        }
+
+        private static void index(Map<String, Map<String, Set<GroupArtifactVersion>>> declared,
+                                  Map<String, Map<String, Set<GroupArtifactVersion>>> index,
+                                  Map<String, List<String>> narrowerScopes) {
+            index.clear();
+            for (Map.Entry<String, Map<String, Set<GroupArtifactVersion>>> project : declared.entrySet()) {
+                Map<String, Set<GroupArtifactVersion>> byScope = new HashMap<>();
+                for (Map.Entry<String, Set<GroupArtifactVersion>> scope : project.getValue().entrySet()) {
+                    byScope.computeIfAbsent(scope.getKey(), k -> new HashSet<>()).addAll(scope.getValue());
+                    for (String narrower : narrowerScopes.getOrDefault(scope.getKey(), emptyList())) {
+                        byScope.computeIfAbsent(narrower, k -> new HashSet<>()).addAll(scope.getValue());
+                    }
+                }
+                index.put(project.getKey(), byScope);
+            }
+        }
+    }
+
+    @Value
+    static class ResolutionRequest {
+        ResolvedGroupArtifactVersion gav;
+        List<GroupArtifact> effectiveExclusions;
+        List<MavenRepository> repositories;
+    }
+
+    @Value
+    static class Resolution {
+        CompletableFuture<Set<GroupArtifactVersion>> transitives;
+        String source;
+    }
+
+    @Value
+    static class PendingResolution {
+        boolean gradle;
+        String projectId;
+        String scope;
+        CompletableFuture<Set<GroupArtifactVersion>> resolution;
     }
 
     @Override
     public Accumulator getInitialValue(ExecutionContext ctx) {
-        return new Accumulator(new HashMap<>());
+        return new Accumulator();
     }
 
     @Override
@@ -74,24 +249,19 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
 
                 tree.getMarkers().findFirst(GradleProject.class).ifPresent(gradle -> {
                     String projectId = gradle.getGroup() + ":" + gradle.getName();
-                    MavenPomDownloader downloader = new MavenPomDownloader(ctx);
-
                     for (GradleDependencyConfiguration conf : gradle.getConfigurations()) {
                         for (ResolvedDependency dep : conf.getResolved()) {
                             if (dep.isDirect() &&
                                     StringUtils.matchesGlob(dep.getGroupId(), groupId) &&
                                     StringUtils.matchesGlob(dep.getArtifactId(), artifactId)) {
-                                // This is a matching parent dependency, resolve its transitives independently
-                                Set<ResolvedGroupArtifactVersion> transitives = acc.transitivesByProjectAndScope
-                                        .computeIfAbsent(projectId, k -> new HashMap<>())
-                                        .computeIfAbsent(conf.getName(), k -> new HashSet<>());
-                                resolveTransitivesFromPom(
-                                        dep.getGav(),
-                                        dep.getEffectiveExclusions(),
-                                        gradle.getMavenRepositories(),
-                                        downloader,
-                                        ctx,
-                                        transitives);
+                                // This is a matching parent dependency. Gradle markers record the version selected by
+                                // conflict resolution rather than what the parent requested, so always resolve its
+                                // transitives independently
+                                ResolutionRequest request = new ResolutionRequest(
+                                        dep.getGav(), dep.getEffectiveExclusions(), gradle.getMavenRepositories());
+                                Resolution resolution = acc.submit(request, ctx);
+                                acc.pending.add(new PendingResolution(true, projectId, conf.getName(), resolution.getTransitives()));
+                                recordSource(acc, ctx, projectId, conf.getName(), dep, resolution.getSource());
                             }
                         }
                     }
@@ -99,25 +269,32 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
 
                 tree.getMarkers().findFirst(MavenResolutionResult.class).ifPresent(maven -> {
                     String projectId = maven.getPom().getGroupId() + ":" + maven.getPom().getArtifactId();
-                    MavenPomDownloader downloader = new MavenPomDownloader(ctx);
-
+                    Set<GroupArtifact> managed = null;
                     for (Map.Entry<Scope, List<ResolvedDependency>> entry : maven.getDependencies().entrySet()) {
-                        Scope depScope = entry.getKey();
+                        String scope = entry.getKey().name().toLowerCase();
                         for (ResolvedDependency dep : entry.getValue()) {
                             if (dep.isDirect() &&
                                     StringUtils.matchesGlob(dep.getGroupId(), groupId) &&
                                     StringUtils.matchesGlob(dep.getArtifactId(), artifactId)) {
-                                // This is a matching parent dependency, resolve its transitives independently
-                                Set<ResolvedGroupArtifactVersion> transitives = acc.transitivesByProjectAndScope
-                                        .computeIfAbsent(projectId, k -> new HashMap<>())
-                                        .computeIfAbsent(depScope.name().toLowerCase(), k -> new HashSet<>());
-                                resolveTransitivesFromPom(
-                                        dep.getGav(),
-                                        dep.getEffectiveExclusions(),
-                                        maven.getPom().getRepositories(),
-                                        downloader,
-                                        ctx,
-                                        transitives);
+                                // This is a matching parent dependency, prefer the subtree the project already resolved
+                                if (managed == null) {
+                                    managed = new HashSet<>();
+                                    for (ResolvedManagedDependency m : maven.getPom().getDependencyManagement()) {
+                                        managed.add(new GroupArtifact(m.getGroupId(), m.getArtifactId()));
+                                    }
+                                }
+                                Set<GroupArtifactVersion> fromTree = transitivesFromResolvedTree(dep, managed);
+                                if (fromTree != null) {
+                                    acc.pending.add(new PendingResolution(false, projectId, scope, CompletableFuture.completedFuture(fromTree)));
+                                    recordSource(acc, ctx, projectId, scope, dep, "Resolved dependency tree");
+                                } else {
+                                    // Otherwise resolve its transitives independently
+                                    ResolutionRequest request = new ResolutionRequest(
+                                            dep.getGav(), dep.getEffectiveExclusions(), maven.getPom().getRepositories());
+                                    Resolution resolution = acc.submit(request, ctx);
+                                    acc.pending.add(new PendingResolution(false, projectId, scope, resolution.getTransitives()));
+                                    recordSource(acc, ctx, projectId, scope, dep, resolution.getSource());
+                                }
                             }
                         }
                     }
@@ -125,59 +302,92 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
 
                 return tree;
             }
+        };
+    }
 
-            private void resolveTransitivesFromPom(
-                    ResolvedGroupArtifactVersion gav,
-                    List<GroupArtifact> effectiveExclusions,
-                    List<MavenRepository> repositories,
-                    MavenPomDownloader downloader,
-                    ExecutionContext ctx,
-                    Set<ResolvedGroupArtifactVersion> transitives) {
-                try {
-                    // Ensure we have Maven Central in the repositories
-                    List<MavenRepository> effectiveRepos = new ArrayList<>(repositories);
-                    if (effectiveRepos.stream().noneMatch(r -> r.getUri().contains("repo.maven.apache.org") ||
-                            r.getUri().contains("repo1.maven.org"))) {
-                        effectiveRepos.add(MavenRepository.MAVEN_CENTRAL);
-                    }
+    private void recordSource(Accumulator acc, ExecutionContext ctx, String projectId, String scope,
+                              ResolvedDependency parent, String source) {
+        RedundantDependencyResolutionReport.Row row = new RedundantDependencyResolutionReport.Row(
+                projectId, scope, parent.getGav().asGroupArtifactVersion().toString(), source);
+        if (acc.reportedSources.add(row)) {
+            resolutionReport.insertRow(ctx, row);
+        }
+    }
 
-                    // Get the resolved dependencies for compile scope (which includes most transitives)
-                    Pom pom = downloader.download(gav.asGroupArtifactVersion(), null, null, effectiveRepos);
-                    ResolvedPom resolvedPom = pom.resolve(emptyList(), downloader, effectiveRepos, ctx);
-                    ResolvedPom patchedPom = applyExclusions(resolvedPom, effectiveExclusions);
-                    List<ResolvedDependency> resolved = patchedPom.resolveDependencies(Scope.Compile, downloader, ctx);
+    /**
+     * Collect the compile scope transitives of a parent dependency from its subtree in the project's resolved
+     * dependency graph. Returns null when the project's own dependency management or conflict resolution may have
+     * changed which versions the parent contributes, in which case its POM has to be resolved on its own.
+     */
+    private static @Nullable Set<GroupArtifactVersion> transitivesFromResolvedTree(ResolvedDependency parent, Set<GroupArtifact> managed) {
+        Set<GroupArtifactVersion> transitives = new HashSet<>();
+        Deque<ResolvedDependency> stack = new ArrayDeque<>(parent.getDependencies());
+        while (!stack.isEmpty()) {
+            ResolvedDependency dep = stack.pop();
+            String requestedScope = dep.getRequested().getScope();
+            if (requestedScope != null && !"compile".equals(requestedScope)) {
+                continue;
+            }
+            if (!dep.getVersion().equals(dep.getRequested().getVersion()) ||
+                    managed.contains(new GroupArtifact(dep.getGroupId(), dep.getArtifactId()))) {
+                return null;
+            }
+            if (transitives.add(dep.getGav().asGroupArtifactVersion())) {
+                stack.addAll(dep.getDependencies());
+            }
+        }
+        return transitives;
+    }
 
-                    // Collect all dependencies (both direct and transitive of the parent)
-                    for (ResolvedDependency dep : resolved) {
-                        collectAllDependencies(dep, transitives);
-                    }
-                } catch (MavenDownloadingException | MavenDownloadingExceptions e) {
-                    // If we can't download/resolve the POM, fall back to not detecting redundancies
-                    // This is a best-effort approach
-                }
+    private static @Nullable Set<GroupArtifactVersion> resolveTransitivesFromPom(ResolutionRequest request, ExecutionContext ctx) {
+        Set<GroupArtifactVersion> transitives = new HashSet<>();
+        try {
+            // Ensure we have Maven Central in the repositories
+            List<MavenRepository> effectiveRepos = new ArrayList<>(request.getRepositories());
+            if (effectiveRepos.stream().noneMatch(r -> r.getUri().contains("repo.maven.apache.org") ||
+                    r.getUri().contains("repo1.maven.org"))) {
+                effectiveRepos.add(MavenRepository.MAVEN_CENTRAL);
             }
 
-            private ResolvedPom applyExclusions(ResolvedPom resolvedPom, List<GroupArtifact> effectiveExclusions) {
-                ResolvedPom patchedPom = resolvedPom.withRequested(resolvedPom.getRequested().withDependencies(
-                        ListUtils.filter(resolvedPom.getRequested().getDependencies(), d -> effectiveExclusions.stream()
-                                .noneMatch(e -> e.getGroupId().equals(d.getGroupId()) && e.getArtifactId().equals(d.getArtifactId())))));
-                patchedPom.getRequestedDependencies().removeIf(d -> effectiveExclusions.stream()
-                        .anyMatch(e -> e.getGroupId().equals(d.getGroupId()) && e.getArtifactId().equals(d.getArtifactId())));
-                return patchedPom;
+            // Get the resolved dependencies for compile scope (which includes most transitives)
+            MavenPomDownloader downloader = new MavenPomDownloader(ctx);
+            Pom pom = downloader.download(request.getGav().asGroupArtifactVersion(), null, null, effectiveRepos);
+            ResolvedPom resolvedPom = pom.resolve(emptyList(), downloader, effectiveRepos, ctx);
+            ResolvedPom patchedPom = applyExclusions(resolvedPom, request.getEffectiveExclusions());
+            List<ResolvedDependency> resolved = patchedPom.resolveDependencies(Scope.Compile, downloader, ctx);
+
+            // Collect all dependencies (both direct and transitive of the parent)
+            for (ResolvedDependency dep : resolved) {
+                collectAllDependencies(dep, transitives);
             }
+        } catch (MavenDownloadingException | MavenDownloadingExceptions e) {
+            // If we can't download/resolve the POM, fall back to not detecting redundancies
+            // This is a best-effort approach
+            return null;
+        }
+        return transitives;
+    }
 
-            private void collectAllDependencies(ResolvedDependency dep, Set<ResolvedGroupArtifactVersion> transitives) {
-                if (transitives.add(dep.getGav())) {
-                    for (ResolvedDependency transitive : dep.getDependencies()) {
-                        collectAllDependencies(transitive, transitives);
-                    }
-                }
+    private static ResolvedPom applyExclusions(ResolvedPom resolvedPom, List<GroupArtifact> effectiveExclusions) {
+        ResolvedPom patchedPom = resolvedPom.withRequested(resolvedPom.getRequested().withDependencies(
+                ListUtils.filter(resolvedPom.getRequested().getDependencies(), d -> effectiveExclusions.stream()
+                        .noneMatch(e -> e.getGroupId().equals(d.getGroupId()) && e.getArtifactId().equals(d.getArtifactId())))));
+        patchedPom.getRequestedDependencies().removeIf(d -> effectiveExclusions.stream()
+                .anyMatch(e -> e.getGroupId().equals(d.getGroupId()) && e.getArtifactId().equals(d.getArtifactId())));
+        return patchedPom;
+    }
+
+    private static void collectAllDependencies(ResolvedDependency dep, Set<GroupArtifactVersion> transitives) {
+        if (transitives.add(dep.getGav().asGroupArtifactVersion())) {
+            for (ResolvedDependency transitive : dep.getDependencies()) {
+                collectAllDependencies(transitive, transitives);
             }
-        };
+        }
     }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        acc.awaitResolutions();
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
@@ -193,12 +403,13 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
                 if (gradleOpt.isPresent()) {
                     GradleProject gradle = gradleOpt.get();
                     String projectId = gradle.getGroup() + ":" + gradle.getName();
-                    Map<String, Set<ResolvedGroupArtifactVersion>> scopeToTransitives =
-                            acc.transitivesByProjectAndScope.getOrDefault(projectId, emptyMap());
+                    Map<String, Set<GroupArtifactVersion>> scopeToTransitives =
+                            acc.gradleTransitivesByProjectAndScope.getOrDefault(projectId, emptyMap());
 
+                    Set<GroupArtifact> redundant = new LinkedHashSet<>();
                     for (GradleDependencyConfiguration conf : gradle.getConfigurations()) {
-                        Set<ResolvedGroupArtifactVersion> transitives = getCompatibleTransitives(
-                                scopeToTransitives, conf.getName(), true);
+                        Set<GroupArtifactVersion> transitives = scopeToTransitives.getOrDefault(
+                                conf.getName().toLowerCase(), emptySet());
                         if (transitives.isEmpty()) {
                             continue;
                         }
@@ -206,15 +417,19 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
                         for (ResolvedDependency dep : conf.getResolved()) {
                             if (dep.isDirect() &&
                                     doesNotMatchArguments(dep) &&
-                                    isInTransitives(dep, transitives)) {
+                                    transitives.contains(dep.getGav().asGroupArtifactVersion())) {
                                 // This direct dependency is transitively provided, remove it
-                                // Don't specify configuration - Gradle's resolved config names differ from declaration names
-                                result = new RemoveDependency(
-                                        dep.getGroupId(), dep.getArtifactId(), null, null, null)
-                                        .getVisitor().visit(result, ctx);
+                                redundant.add(new GroupArtifact(dep.getGroupId(), dep.getArtifactId()));
                             }
                         }
                     }
+                    // Unlike Maven, each redundant dependency is removed in a traversal of its own, since removal from
+                    // Groovy and Kotlin build scripts is left to the Gradle RemoveDependency recipe
+                    for (GroupArtifact ga : redundant) {
+                        // Don't specify configuration - Gradle's resolved config names differ from declaration names
+                        result = new RemoveDependency(ga.getGroupId(), ga.getArtifactId(), null, null, null)
+                                .getVisitor().visit(result, ctx);
+                    }
                     return result;
                 }
 
@@ -223,13 +438,13 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
                 if (mavenOpt.isPresent()) {
                     MavenResolutionResult maven = mavenOpt.get();
                     String projectId = maven.getPom().getGroupId() + ":" + maven.getPom().getArtifactId();
-                    Map<String, Set<ResolvedGroupArtifactVersion>> scopeToTransitives =
-                            acc.transitivesByProjectAndScope.getOrDefault(projectId, emptyMap());
+                    Map<String, Set<GroupArtifactVersion>> scopeToTransitives =
+                            acc.mavenTransitivesByProjectAndScope.getOrDefault(projectId, emptyMap());
 
+                    Map<GroupArtifact, Set<Scope>> redundant = new HashMap<>();
                     for (Map.Entry<Scope, List<ResolvedDependency>> entry : maven.getDependencies().entrySet()) {
-                        String scope = entry.getKey().name().toLowerCase();
-                        Set<ResolvedGroupArtifactVersion> transitives = getCompatibleTransitives(
-                                scopeToTransitives, scope, false);
+                        Set<GroupArtifactVersion> transitives = scopeToTransitives.getOrDefault(
+                                entry.getKey().name().toLowerCase(), emptySet());
                         if (transitives.isEmpty()) {
                             continue;
                         }
@@ -237,14 +452,16 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
                         for (ResolvedDependency dep : entry.getValue()) {
                             if (dep.isDirect() &&
                                     doesNotMatchArguments(dep) &&
-                                    isInTransitives(dep, transitives)) {
+                                    transitives.contains(dep.getGav().asGroupArtifactVersion())) {
                                 // This direct dependency is transitively provided, remove it
-                                result = new RemoveDependency(
-                                        dep.getGroupId(), dep.getArtifactId(), null, null, scope)
-                                        .getVisitor().visit(result, ctx);
+                                redundant.computeIfAbsent(new GroupArtifact(dep.getGroupId(), dep.getArtifactId()),
+                                        k -> EnumSet.noneOf(Scope.class)).add(entry.getKey());
                             }
                         }
                     }
+                    if (!redundant.isEmpty()) {
+                        result = new RemoveMavenDependencies(redundant).visitNonNull(result, ctx);
+                    }
                     return result;
                 }
 
@@ -255,77 +472,39 @@ public class RemoveRedundantDependencies extends ScanningRecipe<RemoveRedundantD
                 return !StringUtils.matchesGlob(dep.getGroupId(), groupId) ||
                         !StringUtils.matchesGlob(dep.getArtifactId(), artifactId);
             }
+        };
+    }
 
-            private boolean isInTransitives(ResolvedDependency dep, Set<ResolvedGroupArtifactVersion> transitives) {
-                // Check if this dependency's GAV matches any transitive
-                // We match on groupId:artifactId:version exactly
-                for (ResolvedGroupArtifactVersion transitive : transitives) {
-                    if (dep.getGroupId().equals(transitive.getGroupId()) &&
-                            dep.getArtifactId().equals(transitive.getArtifactId()) &&
-                            dep.getVersion().equals(transitive.getVersion())) {
-                        return true;
-                    }
-                }
-                return false;
-            }
-
-            /**
-             * Get transitives from this scope/configuration and any broader ones.
-             */
-            private Set<ResolvedGroupArtifactVersion> getCompatibleTransitives(
-                    Map<String, Set<ResolvedGroupArtifactVersion>> scopeToTransitives,
-                    String targetScope,
-                    boolean isGradle) {
-
-                Set<ResolvedGroupArtifactVersion> result = new HashSet<>();
-
-                // Always include transitives from the same scope
-                Set<ResolvedGroupArtifactVersion> sameScope = scopeToTransitives.get(targetScope);
-                if (sameScope != null) {
-                    result.addAll(sameScope);
-                }
-
-                // Include transitives from broader scopes
-                List<String> broaderScopes = isGradle ?
-                        getBroaderGradleScopes(targetScope) :
-                        getBroaderMavenScopes(targetScope);
-                for (String broader : broaderScopes) {
-                    Set<ResolvedGroupArtifactVersion> broaderTransitives = scopeToTransitives.get(broader);
-                    if (broaderTransitives != null) {
-                        result.addAll(broaderTransitives);
+    /**
+     * Removes every `<dependency>` whose coordinates are in the given set in a single traversal of the pom,
+     * so that the model is only re-resolved once no matter how many dependencies are removed.
+     */
+    private static class RemoveMavenDependencies extends MavenIsoVisitor<ExecutionContext> {
+        private final Map<GroupArtifact, Set<Scope>> scopesByGroupArtifact;
+
+        RemoveMavenDependencies(Map<GroupArtifact, Set<Scope>> scopesByGroupArtifact) {
+            this.scopesByGroupArtifact = scopesByGroupArtifact;
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            if (isDependencyTag()) {
+                ResolvedDependency dependency = findDependency(tag);
+                if (dependency != null) {
+                    Set<Scope> scopes = scopesByGroupArtifact.get(
+                            new GroupArtifact(dependency.getGroupId(), dependency.getArtifactId()));
+                    if (scopes != null) {
+                        for (Scope scope : scopes) {
+                            if (findDependency(tag, scope) != null) {
+                                doAfterVisit(new RemoveContentVisitor<>(tag, true, true));
+                                maybeUpdateModel();
+                                return tag;
+                            }
+                        }
                     }
                 }
-
-                return result;
-            }
-
-            private List<String> getBroaderGradleScopes(String scope) {
-                switch (scope.toLowerCase()) {
-                    case "runtimeonly":
-                    case "runtimeclasspath":
-                        return Arrays.asList("implementation", "api");
-                    case "implementation":
-                        return singletonList("api");
-                    case "testimplementation":
-                    case "testruntimeonly":
-                        return Arrays.asList("implementation", "api", "testImplementation");
-                    default:
-                        return emptyList();
-                }
             }
-
-            private List<String> getBroaderMavenScopes(String scope) {
-                switch (scope.toLowerCase()) {
-                    case "runtime":
-                        return singletonList("compile");
-                    case "provided":
-                        return Arrays.asList("compile", "runtime");
-                    case "test":
-                        return Arrays.asList("compile", "runtime", "provided");
-                    default:
-                        return emptyList();
-                }
-            }
-        };
+            return super.visitTag(tag, ctx);
+        }
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Digests of the class files of the jars in a local Maven repository, used to tell identical copies of a class
+ * apart from ones whose bytecode differs. Entries are looked up through the central directory of each jar, and
+ * jars are read in parallel. Digests are cached by the checksum of the jar they were read from, so they are
+ * only computed once per jar content, however many classpaths of a run include it. The cache lives as long as
+ * the {@link ExecutionContext} of the run it was {@link #get(ExecutionContext, Path) obtained} from.
+ */
+public class ClassFileDigests {
+    private static final String CONTEXT_KEY = "org.openrewrite.java.dependencies.classFileDigests";
+    private static final int MAX_CACHED_JARS = 1024;
+
+    private final Map<String, Map<String, String>> digestsByJarChecksum = Collections.synchronizedMap(
+            new LinkedHashMap<String, Map<String, String>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<String, String>> eldest) {
+                    return size() > MAX_CACHED_JARS;
+                }
+            });
+
+    private final Path localRepository;
+
+    public ClassFileDigests(Path localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    /**
+     * @return The digests of the given local repository, shared by every recipe of the run.
+     */
+    public static ClassFileDigests get(ExecutionContext ctx, Path localRepository) {
+        Map<Path, ClassFileDigests> digests = ctx.computeMessageIfAbsent(CONTEXT_KEY, k -> new ConcurrentHashMap<>());
+        return digests.computeIfAbsent(localRepository, ClassFileDigests::new);
+    }
+
+    /**
+     * @param typesByGav The fully qualified type names to digest, by the "group:artifact:version" they are read from.
+     * @return Digests by GAV and type name. GAVs whose jar is not in the local repository, and types
+     * that are not in the jar, are absent from the result.
+     */
+    public Map<String, Map<String, String>> digests(Map<String, ? extends Collection<String>> typesByGav) {
+        return typesByGav.entrySet().parallelStream()
+                .collect(toMap(Map.Entry::getKey, e -> digests(e.getKey(), e.getValue())));
+    }
+
+    private Map<String, String> digests(String gav, Collection<String> typeNames) {
+        Path jar = jar(gav);
+        if (jar == null) {
+            return emptyMap();
+        }
+        String checksum = checksum(jar);
+        if (checksum == null) {
+            return emptyMap();
+        }
+
+        Map<String, String> cached = digestsByJarChecksum.computeIfAbsent(checksum, k -> new ConcurrentHashMap<>());
+        List<String> missing = new ArrayList<>();
+        for (String typeName : typeNames) {
+            if (!cached.containsKey(typeName)) {
+                missing.add(typeName);
+            }
+        }
+        if (!missing.isEmpty()) {
+            try (ZipFile zip = new ZipFile(jar.toFile())) {
+                for (String typeName : missing) {
+                    ZipEntry entry = zip.getEntry(typeName.replace('.', '/') + ".class");
+                    if (entry != null) {
+                        try (InputStream in = zip.getInputStream(entry)) {
+                            cached.put(typeName, sha256(in));
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // Unreadable jars can't discriminate duplicates
+            }
+        }
+
+        Map<String, String> digests = new HashMap<>();
+        for (String typeName : typeNames) {
+            String digest = cached.get(typeName);
+            if (digest != null) {
+                digests.put(typeName, digest);
+            }
+        }
+        return digests;
+    }
+
+    private @Nullable Path jar(String gav) {
+        String[] parts = gav.split(":");
+        if (parts.length < 3) {
+            return null;
+        }
+        String groupId = parts[0];
+        String artifactId = parts[1];
+        String version = parts[parts.length - 1];
+        Path jar = localRepository.resolve(groupId.replace('.', '/'))
+                .resolve(artifactId)
+                .resolve(version)
+                .resolve(artifactId + "-" + version + ".jar");
+        return Files.isRegularFile(jar) ? jar : null;
+    }
+
+    /**
+     * Prefer the checksum that Maven stores alongside a downloaded jar. Hashing the whole jar would cost more
+     * than reading the few entries that collide, so jars without one are identified by path, size and
+     * modification time instead.
+     */
+    private static @Nullable String checksum(Path jar) {
+        Path sha1 = jar.resolveSibling(jar.getFileName() + ".sha1");
+        try {
+            if (Files.isRegularFile(sha1)) {
+                String checksum = new String(Files.readAllBytes(sha1), StandardCharsets.UTF_8).trim();
+                int space = checksum.indexOf(' ');
+                return "sha1:" + (space < 0 ? checksum : checksum.substring(0, space));
+            }
+            BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            return jar.toAbsolutePath() + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String sha256(InputStream in) throws IOException {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                md.update(buffer, 0, n);
+            }
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : md.digest()) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.GroupArtifactVersion;
+import org.openrewrite.maven.tree.MavenRepository;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * A persistent cache of the transitive dependency closures of release dependencies. A release POM never changes,
+ * so the closure of a release version is fully determined by its coordinates, the exclusions applied to it and the
+ * repositories it is resolved from. Entries are stored in a compact binary form under a file name that is a hash
+ * of those inputs. When the cache grows beyond its size cap, the least recently used entries are evicted.
+ * <p>
+ * The cache writes to disk, so it is only used when a run opts in by putting a cache under {@link #CONTEXT_KEY},
+ * for example one in {@link #DEFAULT_DIRECTORY}.
+ */
+public class DependencyClosureCache {
+    /**
+     * The {@link ExecutionContext} message key under which a cache is supplied to enable caching.
+     */
+    public static final String CONTEXT_KEY = "org.openrewrite.java.dependencies.dependencyClosureCache";
+
+    public static final Path DEFAULT_DIRECTORY = Paths.get(System.getProperty("user.home"), ".rewrite", "cache", "dependency-closures");
+
+    public static final long DEFAULT_MAX_SIZE_BYTES = 64L * 1024 * 1024;
+
+    private static final int MAGIC = 0x52444343;
+    private static final byte FORMAT_VERSION = 2;
+
+    /**
+     * The string id written for a missing group or version, which no string of an entry has.
+     */
+    private static final int NULL_ID = -1;
+
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final AtomicLong sizeBytes;
+
+    public DependencyClosureCache(Path directory, long maxSizeBytes) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+        // Measured up front, so that entries put concurrently are all counted on top of it
+        this.sizeBytes = new AtomicLong(initialSize());
+    }
+
+    /**
+     * @return The cache supplied for the run, or {@code null} when the run has not opted in to caching.
+     */
+    public static @Nullable DependencyClosureCache get(ExecutionContext ctx) {
+        return ctx.getMessage(CONTEXT_KEY);
+    }
+
+    /**
+     * Only the closures of fixed release versions are immutable, so only those may be cached.
+     */
+    public static boolean isCacheable(String version) {
+        return !version.endsWith("-SNAPSHOT") &&
+               !version.startsWith("latest.") &&
+               !version.contains("${") &&
+               !version.contains("+") &&
+               version.indexOf('[') < 0 && version.indexOf('(') < 0 &&
+               version.indexOf(']') < 0 && version.indexOf(')') < 0;
+    }
+
+    public String key(GroupArtifactVersion gav, Collection<GroupArtifact> exclusions, Collection<MavenRepository> repositories) {
+        StringBuilder identity = new StringBuilder()
+                .append(gav.getGroupId()).append(':')
+                .append(gav.getArtifactId()).append(':')
+                .append(gav.getVersion());
+        SortedSet<String> sortedExclusions = new TreeSet<>();
+        for (GroupArtifact exclusion : exclusions) {
+            sortedExclusions.add(exclusion.getGroupId() + ":" + exclusion.getArtifactId());
+        }
+        identity.append('|').append(String.join(",", sortedExclusions));
+        SortedSet<String> sortedRepositories = new TreeSet<>();
+        for (MavenRepository repository : repositories) {
+            String uri = repository.getUri();
+            sortedRepositories.add(uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri);
+        }
+        identity.append('|').append(String.join(",", sortedRepositories));
+        return sha256(identity.toString());
+    }
+
+    public @Nullable Set<GroupArtifactVersion> get(String key) {
+        Path entry = directory.resolve(key);
+        if (!Files.exists(entry)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                Files.deleteIfExists(entry);
+                return null;
+            }
+            String[] strings = new String[in.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+            int count = in.readInt();
+            Set<GroupArtifactVersion> closure = new HashSet<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                closure.add(new GroupArtifactVersion(string(strings, in.readInt()), string(strings, in.readInt()),
+                        string(strings, in.readInt())));
+            }
+            // The modification time doubles as the access time used for least recently used eviction
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return closure;
+        } catch (IOException | RuntimeException e) {
+            // A missing or corrupt entry is a cache miss
+            return null;
+        }
+    }
+
+    public void put(String key, Set<GroupArtifactVersion> closure) {
+        try {
+            Files.createDirectories(directory);
+            Map<String, Integer> stringIds = new LinkedHashMap<>();
+            int[] ids = new int[closure.size() * 3];
+            int i = 0;
+            for (GroupArtifactVersion gav : closure) {
+                ids[i++] = id(stringIds, gav.getGroupId());
+                ids[i++] = id(stringIds, gav.getArtifactId());
+                ids[i++] = id(stringIds, gav.getVersion());
+            }
+
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(FORMAT_VERSION);
+                out.writeInt(stringIds.size());
+                for (String s : stringIds.keySet()) {
+                    out.writeUTF(s);
+                }
+                out.writeInt(closure.size());
+                for (int id : ids) {
+                    out.writeInt(id);
+                }
+            }
+            long entrySize = Files.size(temp);
+            try {
+                Files.move(temp, directory.resolve(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            if (sizeBytes.addAndGet(entrySize) > maxSizeBytes) {
+                evict();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // The cache is an optimization, failing to write to it is not an error
+        }
+    }
+
+    private static int id(Map<String, Integer> stringIds, @Nullable String s) {
+        return s == null ? NULL_ID : stringIds.computeIfAbsent(s, k -> stringIds.size());
+    }
+
+    private static @Nullable String string(String[] strings, int id) {
+        return id == NULL_ID ? null : strings[id];
+    }
+
+    private synchronized void evict() throws IOException {
+        Map<Path, BasicFileAttributes> entries = entries();
+        long total = 0;
+        for (BasicFileAttributes attributes : entries.values()) {
+            total += attributes.size();
+        }
+        List<Map.Entry<Path, BasicFileAttributes>> leastRecentlyUsedFirst = new ArrayList<>(entries.entrySet());
+        leastRecentlyUsedFirst.sort(Comparator.comparing(e -> e.getValue().lastModifiedTime()));
+        for (Map.Entry<Path, BasicFileAttributes> entry : leastRecentlyUsedFirst) {
+            if (total <= maxSizeBytes) {
+                break;
+            }
+            if (Files.deleteIfExists(entry.getKey())) {
+                total -= entry.getValue().size();
+            }
+        }
+        sizeBytes.set(total);
+    }
+
+    private long initialSize() {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try {
+            long total = 0;
+            for (BasicFileAttributes attributes : entries().values()) {
+                total += attributes.size();
+            }
+            return total;
+        } catch (IOException | UncheckedIOException e) {
+            return 0;
+        }
+    }
+
+    private Map<Path, BasicFileAttributes> entries() throws IOException {
+        Map<Path, BasicFileAttributes> entries = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Iterator<Path> it = files.iterator(); it.hasNext(); ) {
+                Path entry = it.next();
+                if (entry.getFileName().toString().endsWith(".tmp")) {
+                    // Being written by another thread
+                    continue;
+                }
+                try {
+                    entries.put(entry, Files.readAttributes(entry, BasicFileAttributes.class));
+                } catch (IOException e) {
+                    // Concurrently evicted
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static String sha256(String s) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
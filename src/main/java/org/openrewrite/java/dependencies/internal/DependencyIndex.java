@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import lombok.Value;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.marker.Marker;
+import org.openrewrite.maven.tree.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * The resolved dependencies of one Gradle or Maven project, indexed by group and artifact. Each dependency is
+ * listed once for every configuration or scope it is resolved in, along with whether it is declared directly.
+ * Indexes are built lazily, once per build marker as a {@link MarkerMemo}, and shared through the {@link ExecutionContext} by every
+ * recipe of a run, so a composite recipe walks each resolved dependency graph only once.
+ */
+public class DependencyIndex {
+    private static final String CONTEXT_KEY = "org.openrewrite.java.dependencies.dependencyIndexes";
+
+    @Value
+    public static class Occurrence {
+        ResolvedDependency dependency;
+
+        /**
+         * The Gradle configuration name or the lowercase Maven scope.
+         */
+        String configuration;
+
+        boolean direct;
+    }
+
+    private final Map<GroupArtifact, List<Occurrence>> occurrencesByGa;
+
+    private DependencyIndex(Map<GroupArtifact, List<Occurrence>> occurrencesByGa) {
+        this.occurrencesByGa = occurrencesByGa;
+    }
+
+    public static DependencyIndex get(ExecutionContext ctx, GradleProject gradle) {
+        return get(ctx, gradle, () -> {
+            Map<GroupArtifact, List<Occurrence>> occurrencesByGa = new LinkedHashMap<>();
+            for (GradleDependencyConfiguration conf : gradle.getConfigurations()) {
+                Set<ResolvedGroupArtifactVersion> direct = new HashSet<>();
+                for (ResolvedDependency dep : conf.getDirectResolved()) {
+                    direct.add(dep.getGav());
+                }
+                for (ResolvedDependency dep : conf.getResolved()) {
+                    add(occurrencesByGa, dep, conf.getName(), direct.contains(dep.getGav()));
+                }
+            }
+            return new DependencyIndex(occurrencesByGa);
+        });
+    }
+
+    public static DependencyIndex get(ExecutionContext ctx, MavenResolutionResult maven) {
+        return get(ctx, maven, () -> {
+            Map<GroupArtifact, List<Occurrence>> occurrencesByGa = new LinkedHashMap<>();
+            for (Map.Entry<Scope, List<ResolvedDependency>> resolved : maven.getDependencies().entrySet()) {
+                String scope = resolved.getKey().toString().toLowerCase();
+                for (ResolvedDependency dep : resolved.getValue()) {
+                    add(occurrencesByGa, dep, scope, dep.isDirect());
+                }
+            }
+            return new DependencyIndex(occurrencesByGa);
+        });
+    }
+
+    private static DependencyIndex get(ExecutionContext ctx, Marker marker, Supplier<DependencyIndex> build) {
+        MarkerMemo<DependencyIndex> indexes = ctx.computeMessageIfAbsent(CONTEXT_KEY, k -> new MarkerMemo<>());
+        return indexes.computeIfAbsent(marker, build);
+    }
+
+    private static void add(Map<GroupArtifact, List<Occurrence>> occurrencesByGa, ResolvedDependency dep,
+                            String configuration, boolean direct) {
+        occurrencesByGa.computeIfAbsent(new GroupArtifact(dep.getGroupId(), dep.getArtifactId()), k -> new ArrayList<>(2))
+                .add(new Occurrence(dep, configuration, direct));
+    }
+
+    /**
+     * @return Every group and artifact resolved in the project, in the order they were first resolved.
+     */
+    public Set<GroupArtifact> getGroupArtifacts() {
+        return occurrencesByGa.keySet();
+    }
+
+    public List<Occurrence> getOccurrences(GroupArtifact ga) {
+        return occurrencesByGa.getOrDefault(ga, emptyList());
+    }
+
+    /**
+     * @return The occurrences of every group and artifact matching the glob patterns. Patterns without wildcards
+     * are looked up directly rather than matched against each group and artifact.
+     */
+    public List<Occurrence> find(String groupIdPattern, String artifactIdPattern) {
+        if (isExact(groupIdPattern) && isExact(artifactIdPattern)) {
+            return getOccurrences(new GroupArtifact(groupIdPattern, artifactIdPattern));
+        }
+        List<Occurrence> found = new ArrayList<>();
+        for (Map.Entry<GroupArtifact, List<Occurrence>> entry : occurrencesByGa.entrySet()) {
+            if (StringUtils.matchesGlob(entry.getKey().getGroupId(), groupIdPattern) &&
+                StringUtils.matchesGlob(entry.getKey().getArtifactId(), artifactIdPattern)) {
+                found.addAll(entry.getValue());
+            }
+        }
+        return found;
+    }
+
+    private static boolean isExact(String pattern) {
+        return pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Finds the types that are contributed by more than one GAV of a classpath. Type names are dictionary
+ * encoded to ints, so that each GAV's types are held as a sorted {@code int[]} and duplicates are found with
+ * a counting pass over those arrays. Only the types that actually collide are turned back into strings.
+ * Only types in split packages, packages found in more than one GAV, are searched at all. Large classpaths
+ * are partitioned by the hash of the type name and searched on the fork-join common pool.
+ */
+public class DuplicateClassFinder {
+    /**
+     * Below this many types, searching the whole classpath on one thread is faster than partitioning it.
+     */
+    private static final int PARALLEL_THRESHOLD = 50_000;
+
+    private DuplicateClassFinder() {
+    }
+
+    @Value
+    public static class DuplicateClass {
+        String typeName;
+
+        /**
+         * The GAVs containing the type, in the iteration order of the classpath.
+         */
+        List<String> gavs;
+    }
+
+    @Value
+    public static class SplitPackage {
+        String packageName;
+
+        /**
+         * The GAVs containing types in the package, in the iteration order of the classpath.
+         */
+        List<String> gavs;
+    }
+
+    @Value
+    public static class DuplicateSet {
+        /**
+         * The GAVs sharing the duplicate classes, in the iteration order of the classpath.
+         */
+        List<String> gavs;
+
+        int duplicateClasses;
+
+        /**
+         * The first few duplicate classes by type name.
+         */
+        List<String> sampleTypeNames;
+    }
+
+    @Value
+    public static class Result {
+        /**
+         * Packages with types in more than one GAV, sorted by package name.
+         */
+        List<SplitPackage> splitPackages;
+
+        /**
+         * Types found in more than one GAV, sorted by type name.
+         */
+        List<DuplicateClass> duplicateClasses;
+    }
+
+    /**
+     * @param gavToTypes The types of each GAV on a classpath, as in {@link org.openrewrite.java.marker.JavaSourceSet#getGavToTypes()}.
+     */
+    public static Result find(Map<String, List<JavaType.FullyQualified>> gavToTypes) {
+        String[] gavs = gavToTypes.keySet().toArray(new String[0]);
+
+        // Most jars share no packages with each other, so only the types of packages found in more than
+        // one GAV can be duplicates
+        String[][] typeNamesByGav = new String[gavs.length][];
+        String[][] packagesByGav = new String[gavs.length][];
+        Map<String, List<String>> gavsByPackage = new HashMap<>();
+        for (int g = 0; g < gavs.length; g++) {
+            List<JavaType.FullyQualified> types = gavToTypes.get(gavs[g]);
+            String[] names = new String[types.size()];
+            String[] packages = new String[types.size()];
+            Set<String> packagesOfGav = new HashSet<>();
+            String lastPackage = null;
+            for (int i = 0; i < names.length; i++) {
+                names[i] = types.get(i).getFullyQualifiedName();
+                lastPackage = packageOf(names[i], lastPackage);
+                packages[i] = lastPackage;
+                if (packagesOfGav.add(lastPackage)) {
+                    gavsByPackage.computeIfAbsent(lastPackage, k -> new ArrayList<>(2)).add(gavs[g]);
+                }
+            }
+            typeNamesByGav[g] = names;
+            packagesByGav[g] = packages;
+        }
+
+        List<SplitPackage> splitPackages = new ArrayList<>();
+        int totalTypes = 0;
+        for (int g = 0; g < gavs.length; g++) {
+            String[] names = typeNamesByGav[g];
+            String[] packages = packagesByGav[g];
+            int inSplitPackages = 0;
+            for (int i = 0; i < names.length; i++) {
+                if (gavsByPackage.get(packages[i]).size() > 1) {
+                    names[inSplitPackages++] = names[i];
+                }
+            }
+            typeNamesByGav[g] = Arrays.copyOf(names, inSplitPackages);
+            totalTypes += inSplitPackages;
+        }
+        for (Map.Entry<String, List<String>> entry : gavsByPackage.entrySet()) {
+            // Types in the default package are mostly module-info, which is not a split package
+            if (entry.getValue().size() > 1 && !entry.getKey().isEmpty()) {
+                splitPackages.add(new SplitPackage(entry.getKey(), entry.getValue()));
+            }
+        }
+        splitPackages.sort(Comparator.comparing(SplitPackage::getPackageName));
+
+        List<DuplicateClass> duplicates;
+        int partitions = ForkJoinPool.getCommonPoolParallelism() * 4;
+        if (totalTypes < PARALLEL_THRESHOLD || partitions < 2) {
+            duplicates = find(gavs, typeNamesByGav);
+        } else {
+            // A type can only collide with a type of the same name, so partitioning by the hash of the
+            // name lets each partition be searched independently of the others
+            String[][][] typeNamesByGavAndPartition = new String[gavs.length][][];
+            IntStream.range(0, gavs.length).parallel().forEach(g ->
+                    typeNamesByGavAndPartition[g] = partition(typeNamesByGav[g], partitions));
+            duplicates = IntStream.range(0, partitions).parallel()
+                    .mapToObj(p -> {
+                        String[][] partitionTypeNamesByGav = new String[gavs.length][];
+                        for (int g = 0; g < gavs.length; g++) {
+                            partitionTypeNamesByGav[g] = typeNamesByGavAndPartition[g][p];
+                        }
+                        return find(gavs, partitionTypeNamesByGav);
+                    })
+                    .flatMap(List::stream)
+                    .collect(toList());
+        }
+
+        // Type names are unique across partitions, so sorting by them gives the same order however the
+        // partitions were scheduled
+        duplicates.sort(Comparator.comparing(DuplicateClass::getTypeName));
+        return new Result(splitPackages, duplicates);
+    }
+
+    /**
+     * Groups duplicate classes by the set of GAVs containing them in a single pass, keeping only a count and
+     * a bounded sample of type names for each set.
+     *
+     * @param duplicates Duplicate classes, as returned by {@link #find(Map)}.
+     * @param maxSamples The maximum number of type names to keep for each set of GAVs.
+     * @return One entry per distinct set of GAVs, in the order the sets were first seen.
+     */
+    public static List<DuplicateSet> summarize(Iterable<DuplicateClass> duplicates, int maxSamples) {
+        Map<List<String>, List<String>> samplesByGavs = new LinkedHashMap<>();
+        Map<List<String>, Integer> countsByGavs = new HashMap<>();
+        for (DuplicateClass duplicate : duplicates) {
+            List<String> samples = samplesByGavs.computeIfAbsent(duplicate.getGavs(), k -> new ArrayList<>(maxSamples));
+            if (samples.size() < maxSamples) {
+                samples.add(duplicate.getTypeName());
+            }
+            countsByGavs.merge(duplicate.getGavs(), 1, Integer::sum);
+        }
+        List<DuplicateSet> duplicateSets = new ArrayList<>(samplesByGavs.size());
+        for (Map.Entry<List<String>, List<String>> entry : samplesByGavs.entrySet()) {
+            duplicateSets.add(new DuplicateSet(entry.getKey(), countsByGavs.get(entry.getKey()), entry.getValue()));
+        }
+        return duplicateSets;
+    }
+
+    /**
+     * The types of a jar are mostly listed package by package, so the previous type's package is reused
+     * whenever it matches rather than allocating a new string for every type.
+     */
+    private static String packageOf(String typeName, @Nullable String lastPackage) {
+        int lastDot = typeName.lastIndexOf('.');
+        if (lastDot < 0) {
+            return "";
+        }
+        if (lastPackage != null && lastPackage.length() == lastDot && typeName.startsWith(lastPackage)) {
+            return lastPackage;
+        }
+        return typeName.substring(0, lastDot);
+    }
+
+    private static List<DuplicateClass> find(String[] gavs, String[][] typeNamesByGav) {
+        Map<String, Integer> typeIds = new HashMap<>();
+        List<String> typeNames = new ArrayList<>();
+        int[][] typeIdsByGav = new int[gavs.length][];
+        for (int g = 0; g < gavs.length; g++) {
+            String[] names = typeNamesByGav[g];
+            int[] ids = new int[names.length];
+            for (int i = 0; i < ids.length; i++) {
+                Integer id = typeIds.get(names[i]);
+                if (id == null) {
+                    id = typeNames.size();
+                    typeIds.put(names[i], id);
+                    typeNames.add(names[i]);
+                }
+                ids[i] = id;
+            }
+            typeIdsByGav[g] = distinctSorted(ids);
+        }
+
+        int[] counts = new int[typeNames.size()];
+        for (int[] ids : typeIdsByGav) {
+            for (int id : ids) {
+                counts[id]++;
+            }
+        }
+
+        Map<Integer, List<String>> collisions = new HashMap<>();
+        for (int g = 0; g < gavs.length; g++) {
+            for (int id : typeIdsByGav[g]) {
+                if (counts[id] > 1) {
+                    collisions.computeIfAbsent(id, k -> new ArrayList<>(counts[k])).add(gavs[g]);
+                }
+            }
+        }
+
+        List<DuplicateClass> duplicates = new ArrayList<>(collisions.size());
+        for (Map.Entry<Integer, List<String>> collision : collisions.entrySet()) {
+            String typeName = typeNames.get(collision.getKey());
+            // Skip module-info and package-info files (multi-release JAR false positives)
+            if (typeName.contains("module-info") || typeName.endsWith("package-info")) {
+                continue;
+            }
+            duplicates.add(new DuplicateClass(typeName, collision.getValue()));
+        }
+        return duplicates;
+    }
+
+    private static String[][] partition(String[] typeNames, int partitions) {
+        int[] sizes = new int[partitions];
+        int[] partitionOf = new int[typeNames.length];
+        for (int i = 0; i < partitionOf.length; i++) {
+            partitionOf[i] = (typeNames[i].hashCode() & Integer.MAX_VALUE) % partitions;
+            sizes[partitionOf[i]]++;
+        }
+        String[][] names = new String[partitions][];
+        for (int p = 0; p < partitions; p++) {
+            names[p] = new String[sizes[p]];
+            sizes[p] = 0;
+        }
+        for (int i = 0; i < partitionOf.length; i++) {
+            int p = partitionOf[i];
+            names[p][sizes[p]++] = typeNames[i];
+        }
+        return names;
+    }
+
+    private static int[] distinctSorted(int[] ids) {
+        Arrays.sort(ids);
+        int distinct = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import lombok.Value;
+import org.openrewrite.java.dependencies.internal.DuplicateClassFinder.DuplicateClass;
+
+import java.util.*;
+
+/**
+ * A memory-bounded aggregate, across every project of a run, of the pairs of GAVs that contain the same classes.
+ * GAVs and projects are encoded to ints, so that a pair is a single {@code long} key and the projects it was seen
+ * in are a {@link BitSet}. Once {@code maxPairs} distinct pairs are tracked, a pair seen for the first time replaces
+ * the pair found in the fewest projects, and inherits its count as a possible overcount, as in the space-saving
+ * algorithm. Pairs found in many projects are therefore kept however late they are first seen, and the reported
+ * count of any pair is never lower than its true count.
+ */
+public class DuplicateClassPairs {
+    private final int maxPairs;
+
+    private final Map<String, Integer> gavIds = new HashMap<>();
+    private final List<String> gavs = new ArrayList<>();
+    private final Map<String, Integer> projectIds = new HashMap<>();
+    private final Map<Long, PairCounter> pairs = new HashMap<>();
+    private final TreeSet<PairCounter> byProjects = new TreeSet<>(Comparator.comparingInt((PairCounter c) -> c.projectCount)
+            .thenComparingLong(c -> c.key));
+
+    public DuplicateClassPairs(int maxPairs) {
+        this.maxPairs = maxPairs;
+    }
+
+    @Value
+    public static class Pair {
+        String gav1;
+        String gav2;
+        int projects;
+
+        /**
+         * The most by which {@link #projects} may exceed the true count, because the pair replaced another
+         * when the limit on tracked pairs had been reached. Zero when the count is exact.
+         */
+        int projectsError;
+
+        /**
+         * The largest number of classes the pair has in common on any one classpath.
+         */
+        int duplicateClasses;
+    }
+
+    private static class PairCounter {
+        final long key;
+        final BitSet projects = new BitSet();
+        final int projectsError;
+
+        /**
+         * The inherited {@link #projectsError} plus the number of projects the pair was seen in since it was tracked.
+         */
+        int projectCount;
+
+        int duplicateClasses;
+
+        PairCounter(long key, int projectsError) {
+            this.key = key;
+            this.projectsError = projectsError;
+            this.projectCount = projectsError;
+        }
+    }
+
+    /**
+     * Counts the classes each pair of GAVs has in common on one classpath. The result only depends on the
+     * classpath, so it can be computed once and {@link #record(String, Map) recorded} for every project using it.
+     */
+    public Map<Long, Integer> countPairs(List<DuplicateClass> duplicates) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (DuplicateClass duplicate : duplicates) {
+            List<String> duplicateGavs = duplicate.getGavs();
+            int[] ids = new int[duplicateGavs.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = gavId(duplicateGavs.get(i));
+            }
+            for (int i = 0; i < ids.length; i++) {
+                for (int j = i + 1; j < ids.length; j++) {
+                    counts.merge(pairKey(ids[i], ids[j]), 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    public void record(String project, Map<Long, Integer> pairCounts) {
+        int projectId = projectIds.computeIfAbsent(project, k -> projectIds.size());
+        for (Map.Entry<Long, Integer> pairCount : pairCounts.entrySet()) {
+            PairCounter counter = pairs.get(pairCount.getKey());
+            if (counter == null) {
+                int projectsError = 0;
+                if (pairs.size() >= maxPairs) {
+                    PairCounter evicted = byProjects.pollFirst();
+                    pairs.remove(evicted.key);
+                    projectsError = evicted.projectCount;
+                }
+                counter = new PairCounter(pairCount.getKey(), projectsError);
+                pairs.put(counter.key, counter);
+                byProjects.add(counter);
+            }
+            if (!counter.projects.get(projectId)) {
+                // Re-inserted, since the count is part of the ordering
+                byProjects.remove(counter);
+                counter.projects.set(projectId);
+                counter.projectCount++;
+                byProjects.add(counter);
+            }
+            counter.duplicateClasses = Math.max(counter.duplicateClasses, pairCount.getValue());
+        }
+    }
+
+    /**
+     * @return The tracked pairs, those found in the most projects first, then those sharing the most classes.
+     */
+    public List<Pair> getPairs() {
+        List<Pair> result = new ArrayList<>(pairs.size());
+        for (Map.Entry<Long, PairCounter> pair : pairs.entrySet()) {
+            long key = pair.getKey();
+            result.add(new Pair(
+                    gavs.get((int) (key >>> 32)),
+                    gavs.get((int) key),
+                    pair.getValue().projectCount,
+                    pair.getValue().projectsError,
+                    pair.getValue().duplicateClasses));
+        }
+        result.sort(Comparator.comparingInt(Pair::getProjects).reversed()
+                .thenComparing(Comparator.comparingInt(Pair::getDuplicateClasses).reversed())
+                .thenComparing(Pair::getGav1)
+                .thenComparing(Pair::getGav2));
+        return result;
+    }
+
+    private int gavId(String gav) {
+        Integer id = gavIds.get(gav);
+        if (id == null) {
+            id = gavs.size();
+            gavIds.put(gav, id);
+            gavs.add(gav);
+        }
+        return id;
+    }
+
+    private static long pairKey(int gav1, int gav2) {
+        int lo = Math.min(gav1, gav2);
+        int hi = Math.max(gav1, gav2);
+        return ((long) lo << 32) | hi;
+    }
+}
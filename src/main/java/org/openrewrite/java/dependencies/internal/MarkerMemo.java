@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.marker.Marker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Values derived from the {@code GradleProject} or {@code MavenResolutionResult} marker of a build file, held by
+ * marker id. Recipes that change dependencies replace the marker while keeping its id, so a value is only reused for
+ * the very same marker instance, and is derived again from the marker that replaced it. Safe to use concurrently.
+ *
+ * @param <V> The type of the derived values.
+ */
+public class MarkerMemo<V> {
+    private final Map<UUID, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private static class Entry<V> {
+        final Marker marker;
+        final V value;
+
+        Entry(Marker marker, V value) {
+            this.marker = marker;
+            this.value = value;
+        }
+    }
+
+    /**
+     * @return The value derived from this marker instance, or {@code null} when none was, including when only the
+     * marker it replaced has been seen.
+     */
+    public @Nullable V get(Marker marker) {
+        Entry<V> entry = entries.get(marker.getId());
+        return entry == null || entry.marker != marker ? null : entry.value;
+    }
+
+    /**
+     * @return The value derived from this marker instance, deriving it when the marker has not been seen or has
+     * replaced the one the current value was derived from.
+     */
+    public V computeIfAbsent(Marker marker, Supplier<? extends V> derive) {
+        V value = get(marker);
+        if (value == null) {
+            value = derive.get();
+            entries.put(marker.getId(), new Entry<>(marker, value));
+        }
+        return value;
+    }
+
+    /**
+     * @return The value derived from the latest marker of each id.
+     */
+    public Collection<V> values() {
+        List<V> values = new ArrayList<>(entries.size());
+        for (Entry<V> entry : entries.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    /**
+     * Adds the values of another memo to this one. Where both hold a value for the same marker id, the other
+     * memo's value is kept.
+     */
+    public void putAll(MarkerMemo<V> other) {
+        entries.putAll(other.entries);
+    }
+}
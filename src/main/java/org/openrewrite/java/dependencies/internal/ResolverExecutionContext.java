@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.DelegatingExecutionContext;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.maven.MavenExecutionContextView;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The context of a dependency resolution running on a resolver thread, alongside the recipes of the run. The Maven
+ * settings, repositories and pom cache of the run are read through to the run's context, but messages put during the
+ * resolution stay local to it. The resolution listener is the one the run had when the resolution was created, so
+ * that a recipe swapping the run's listener while resolutions are in flight neither sees their events nor loses its
+ * own. Each context is meant to be used by one resolution, on one thread.
+ */
+public class ResolverExecutionContext extends DelegatingExecutionContext {
+    private final Map<String, @Nullable Object> messages = new HashMap<>();
+
+    public ResolverExecutionContext(ExecutionContext ctx) {
+        super(ctx);
+        MavenExecutionContextView.view(this).setResolutionListener(MavenExecutionContextView.view(ctx).getResolutionListener());
+    }
+
+    @Override
+    public void putMessage(String key, @Nullable Object value) {
+        messages.put(key, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T getMessage(String key) {
+        return messages.containsKey(key) ? (T) messages.get(key) : super.getMessage(key);
+    }
+
+    @Override
+    public <T> T getMessage(String key, @Nullable T defaultValue) {
+        T value = getMessage(key);
+        return value == null ? defaultValue : value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T pollMessage(String key) {
+        // Messages of the run are only read, never removed
+        return messages.containsKey(key) ? (T) messages.remove(key) : super.getMessage(key);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Thread pools for downloads running in the background while a recipe scans, each download with a
+ * {@link ResolverExecutionContext} of its own.
+ */
+public class ResolverExecutors {
+    private ResolverExecutors() {
+    }
+
+    /**
+     * @param threadName The name of every thread of the pool.
+     * @param threads    The number of downloads to run at once.
+     * @return A pool of daemon threads, so that a run that fails before shutting the pool down does not keep the
+     * JVM alive.
+     */
+    public static ExecutorService newFixedThreadPool(String threadName, int threads) {
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
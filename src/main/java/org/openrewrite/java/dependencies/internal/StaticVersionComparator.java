@@ -41,6 +41,16 @@ public class StaticVersionComparator implements Comparator<Version> {
         SPECIAL_MEANINGS.put("sp", 7);
     }
 
+    /**
+     * Compares 2 versions like {@link #compare(Version, Version)}, breaking the ties between versions such as
+     * 1.0-1 and 1.0.1 that compare as equal by the versions themselves. The order is then total, so a minimum or
+     * sorted list of versions does not depend on the order in which the versions are seen.
+     */
+    public int compareStrictly(Version version1, Version version2) {
+        int comparison = compare(version1, version2);
+        return comparison != 0 ? comparison : version1.getSource().compareTo(version2.getSource());
+    }
+
     /**
      * Compares 2 versions. Algorithm is inspired by PHP version_compare one.
      */
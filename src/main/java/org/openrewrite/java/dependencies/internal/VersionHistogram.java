@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A bounded histogram of the versions of one dependency, counting each distinct version on its own. Once
+ * {@code maxBuckets} versions are held, further versions are counted together under {@link #OTHER_VERSIONS}
+ * rather than under a version they are not. Histograms are safe to update concurrently and can be merged.
+ */
+public class VersionHistogram {
+    /**
+     * The label of the count of versions seen after the histogram reached its bound.
+     */
+    public static final String OTHER_VERSIONS = "(other)";
+
+    private static final StaticVersionComparator VERSION_COMPARATOR = new StaticVersionComparator();
+
+    private final int maxBuckets;
+    private final Map<String, Bucket> buckets = new HashMap<>();
+    private long other;
+
+    public VersionHistogram(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    private static class Bucket {
+        final Version version;
+        long count;
+
+        Bucket(Version version) {
+            this.version = version;
+        }
+    }
+
+    public synchronized void add(Version version) {
+        add(version, 1);
+    }
+
+    private void add(Version version, long count) {
+        Bucket bucket = buckets.get(version.getSource());
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                other += count;
+                return;
+            }
+            bucket = new Bucket(version);
+            buckets.put(version.getSource(), bucket);
+        }
+        bucket.count += count;
+    }
+
+    /**
+     * Adds the counts of another histogram to this one. Buckets of the same version are combined, so merging is
+     * associative as long as neither histogram has reached its bound.
+     */
+    public void merge(VersionHistogram other) {
+        List<Bucket> otherBuckets = new ArrayList<>();
+        long otherVersions;
+        synchronized (other) {
+            for (Bucket bucket : other.buckets.values()) {
+                Bucket copy = new Bucket(bucket.version);
+                copy.count = bucket.count;
+                otherBuckets.add(copy);
+            }
+            otherVersions = other.other;
+        }
+        synchronized (this) {
+            for (Bucket bucket : otherBuckets) {
+                add(bucket.version, bucket.count);
+            }
+            this.other += otherVersions;
+        }
+    }
+
+    /**
+     * @return The count of each version, in ascending version order, followed by the count of
+     * {@link #OTHER_VERSIONS} when the histogram reached its bound.
+     */
+    public synchronized Map<String, Long> getCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Bucket bucket : sortedBuckets()) {
+            counts.put(bucket.version.getSource(), bucket.count);
+        }
+        if (other > 0) {
+            counts.put(OTHER_VERSIONS, other);
+        }
+        return counts;
+    }
+
+    /**
+     * @param percentile A value between 0 and 1.
+     * @return The lowest version such that at least the given share of the counts are at or below it. Versions
+     * counted under {@link #OTHER_VERSIONS} can't be ranked, so they are left out.
+     */
+    public synchronized @Nullable String percentile(double percentile) {
+        List<Bucket> sorted = sortedBuckets();
+        long total = 0;
+        for (Bucket bucket : sorted) {
+            total += bucket.count;
+        }
+        long threshold = (long) Math.ceil(percentile * total);
+        long cumulative = 0;
+        for (Bucket bucket : sorted) {
+            cumulative += bucket.count;
+            if (cumulative >= threshold) {
+                return bucket.version.getSource();
+            }
+        }
+        return null;
+    }
+
+    private List<Bucket> sortedBuckets() {
+        List<Bucket> sorted = new ArrayList<>(buckets.values());
+        sorted.sort((b1, b2) -> VERSION_COMPARATOR.compareStrictly(b1.version, b2.version));
+        return sorted;
+    }
+}
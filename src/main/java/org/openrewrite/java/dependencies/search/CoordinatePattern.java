@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.search;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Validated;
+import org.openrewrite.semver.Semver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A dependency pattern given to a recipe option, in the form {@code groupId:artifactId[:version[:scope]]}. Group and
+ * artifact IDs are glob patterns, the version is a node-style version selector that may be left empty, and the scope
+ * is a Maven scope. Each entry of the option is a single pattern or a comma-separated list of patterns.
+ */
+@Value
+class CoordinatePattern {
+    private static final List<String> SCOPES = Arrays.asList("compile", "test", "runtime", "provided", "system");
+
+    /**
+     * The pattern as it was given, without surrounding whitespace.
+     */
+    String pattern;
+
+    String groupIdPattern;
+    String artifactIdPattern;
+
+    @Nullable
+    String version;
+
+    @Nullable
+    String scope;
+
+    static List<CoordinatePattern> parse(List<String> entries) {
+        List<CoordinatePattern> patterns = new ArrayList<>();
+        for (String pattern : split(entries)) {
+            String[] parts = pattern.split(":", -1);
+            patterns.add(new CoordinatePattern(pattern, parts[0], parts[1],
+                    parts.length > 2 && !parts[2].isEmpty() ? parts[2] : null,
+                    parts.length > 3 ? parts[3] : null));
+        }
+        return patterns;
+    }
+
+    /**
+     * @param scoped Whether the patterns may end with a scope.
+     */
+    static Validated<Object> validate(String property, @Nullable List<String> entries, boolean scoped) {
+        Validated<Object> validated = Validated.none();
+        if (entries == null) {
+            return validated;
+        }
+        for (String pattern : split(entries)) {
+            String[] parts = pattern.split(":", -1);
+            if (parts.length < 2 || parts.length > (scoped ? 4 : 3) || parts[0].isEmpty() || parts[1].isEmpty()) {
+                validated = validated.and(Validated.invalid(property, pattern, "must be in the form " +
+                        (scoped ? "groupId:artifactId[:version[:scope]]" : "groupId:artifactId[:version]")));
+                continue;
+            }
+            if (parts.length > 2 && !parts[2].isEmpty()) {
+                validated = validated.and(Semver.validate(parts[2], null));
+            }
+            if (parts.length > 3 && !SCOPES.contains(parts[3])) {
+                validated = validated.and(Validated.invalid(property, pattern,
+                        "scope must be one of " + String.join(", ", SCOPES)));
+            }
+        }
+        return validated;
+    }
+
+    private static List<String> split(List<String> entries) {
+        List<String> patterns = new ArrayList<>();
+        for (String entry : entries) {
+            for (String pattern : entry.split(",")) {
+                if (!pattern.trim().isEmpty()) {
+                    patterns.add(pattern.trim());
+                }
+            }
+        }
+        return patterns;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.search;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.dependencies.internal.DependencyIndex;
+import org.openrewrite.java.dependencies.internal.MarkerMemo;
+import org.openrewrite.maven.tree.Dependency;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.Scope;
+import org.openrewrite.semver.Semver;
+import org.openrewrite.semver.VersionComparator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The dependency search options of {@link ModuleHasDependency} and {@link RepositoryHasDependency}, compiled
+ * once per recipe run rather than for every source file that is checked. Only build files carry the marker that
+ * dependencies are resolved from, and Java sources are matched through the {@code JavaProject} of their module, so
+ * each build file is queried once per cycle, as the scan is repeated. Most modules don't have the dependency, so the
+ * outcome for each marker is memoized in a {@link MarkerMemo}, whether it matched or not, and later cycles only
+ * query again the build files whose dependencies changed. Gradle script plugins, which share the marker of their
+ * build script, reuse its outcome within a cycle too.
+ */
+final class DependencyQuery {
+    private final String groupIdPattern;
+    private final String artifactIdPattern;
+    private final GlobMatcher groupIdMatcher;
+    private final GlobMatcher artifactIdMatcher;
+
+    @Nullable
+    private final Scope scope;
+
+    @Nullable
+    private final VersionComparator versionComparator;
+
+    private final MarkerMemo<Boolean> matchesByMarker = new MarkerMemo<>();
+
+    DependencyQuery(String groupIdPattern, String artifactIdPattern, @Nullable String scope, @Nullable String version) {
+        this.groupIdPattern = groupIdPattern;
+        this.artifactIdPattern = artifactIdPattern;
+        this.groupIdMatcher = GlobMatcher.compile(groupIdPattern);
+        this.artifactIdMatcher = GlobMatcher.compile(artifactIdPattern);
+        this.scope = scope == null ? null : Scope.fromName(scope);
+        this.versionComparator = version != null ? Semver.validate(version, null).getValue() : null;
+    }
+
+    boolean matches(Tree tree, ExecutionContext ctx) {
+        MavenResolutionResult mavenResult = tree.getMarkers().findFirst(MavenResolutionResult.class).orElse(null);
+        if (mavenResult != null) {
+            return matchesByMarker.computeIfAbsent(mavenResult, () -> matches(mavenResult));
+        }
+
+        GradleProject gp = tree.getMarkers().findFirst(GradleProject.class).orElse(null);
+        if (gp != null) {
+            return matchesByMarker.computeIfAbsent(gp, () -> matches(gp, ctx));
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the tree is a build file, carrying the marker that dependencies are resolved from.
+     */
+    static boolean isBuildFile(Tree tree) {
+        return tree.getMarkers().findFirst(MavenResolutionResult.class).isPresent() ||
+               tree.getMarkers().findFirst(GradleProject.class).isPresent();
+    }
+
+    private boolean matches(MavenResolutionResult mavenResult) {
+        List<ResolvedDependency> dependencies = mavenResult.findDependencies(groupIdPattern, artifactIdPattern, scope);
+        Set<String> resolvedGAs = new HashSet<>();
+        for (ResolvedDependency dependency : dependencies) {
+            resolvedGAs.add(dependency.getGroupId() + ":" + dependency.getArtifactId());
+            if (versionComparator == null || versionComparator.isValid(null, dependency.getVersion())) {
+                return true;
+            }
+        }
+        for (Dependency requested : mavenResult.getPom().getRequestedDependencies()) {
+            if (resolvedGAs.contains(requested.getGroupId() + ":" + requested.getArtifactId())) {
+                continue;
+            }
+            if (matchesRequested(requested, scope)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(GradleProject gp, ExecutionContext ctx) {
+        Set<String> resolvedGAs = new HashSet<>();
+        for (DependencyIndex.Occurrence occurrence : DependencyIndex.get(ctx, gp).find(groupIdPattern, artifactIdPattern)) {
+            ResolvedDependency found = occurrence.getDependency();
+            resolvedGAs.add(found.getGroupId() + ":" + found.getArtifactId());
+            if (versionComparator == null || versionComparator.isValid(null, found.getVersion())) {
+                return true;
+            }
+        }
+        for (GradleDependencyConfiguration c : gp.getConfigurations()) {
+            for (Dependency requested : c.getRequested()) {
+                if (resolvedGAs.contains(requested.getGroupId() + ":" + requested.getArtifactId())) {
+                    continue;
+                }
+                if (matchesRequested(requested, null)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesRequested(Dependency dep, @Nullable Scope requestedScope) {
+        if (dep.getGroupId() == null || dep.getArtifactId() == null) {
+            return false;
+        }
+        if (!groupIdMatcher.matches(dep.getGroupId())) {
+            return false;
+        }
+        if (!artifactIdMatcher.matches(dep.getArtifactId())) {
+            return false;
+        }
+        if (requestedScope != null) {
+            Scope depScope = dep.getScope() == null ? Scope.Compile : Scope.fromName(dep.getScope());
+            if (!depScope.isInClasspathOf(requestedScope)) {
+                return false;
+            }
+        }
+        return versionMatches(dep.getVersion());
+    }
+
+    private boolean versionMatches(@Nullable String version) {
+        if (versionComparator == null) {
+            return true;
+        }
+        if (version == null || version.startsWith("${")) {
+            return false;
+        }
+        return versionComparator.isValid(null, version);
+    }
+
+    /**
+     * Most patterns are either a literal coordinate or a lone wildcard, which can be matched without
+     * walking the pattern at all.
+     */
+    private interface GlobMatcher {
+        boolean matches(String value);
+
+        static GlobMatcher compile(String pattern) {
+            if ("*".equals(pattern)) {
+                return value -> true;
+            }
+            if (pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0) {
+                return pattern::equals;
+            }
+            return value -> StringUtils.matchesGlob(value, pattern);
+        }
+    }
+}
@@ -17,37 +17,114 @@ package org.openrewrite.java.dependencies.search;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.ScanningRecipe;
 import org.openrewrite.SourceFile;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.dependencies.internal.ClassFileDigests;
+import org.openrewrite.java.dependencies.internal.DuplicateClassFinder;
+import org.openrewrite.java.dependencies.internal.DuplicateClassPairs;
+import org.openrewrite.java.dependencies.internal.DuplicateClassFinder.DuplicateClass;
+import org.openrewrite.java.dependencies.internal.DuplicateClassFinder.DuplicateSet;
+import org.openrewrite.java.dependencies.internal.DuplicateClassFinder.SplitPackage;
+import org.openrewrite.java.dependencies.table.DuplicateClassHotspots;
 import org.openrewrite.java.dependencies.table.DuplicateClassesReport;
+import org.openrewrite.java.dependencies.table.DuplicateClassesSummary;
+import org.openrewrite.java.dependencies.table.SplitPackagesReport;
 import org.openrewrite.java.marker.JavaProject;
 import org.openrewrite.java.marker.JavaSourceSet;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.maven.MavenExecutionContextView;
 
+import java.net.URI;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.joining;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
 public class FindDuplicateClasses extends ScanningRecipe<FindDuplicateClasses.Accumulator> {
+    private static final int MAX_SAMPLE_TYPE_NAMES = 5;
+    private static final int MAX_HOTSPOT_PAIRS = 10_000;
+    private static final int MAX_RECENT_CLASSPATHS = 16;
 
     transient DuplicateClassesReport report = new DuplicateClassesReport(this);
+    transient SplitPackagesReport splitPackagesReport = new SplitPackagesReport(this);
+    transient DuplicateClassesSummary summary = new DuplicateClassesSummary(this);
+    transient DuplicateClassHotspots hotspots = new DuplicateClassHotspots(this);
+
+    @Option(displayName = "Compare class contents",
+            description = "When enabled, the class files of each duplicate are read from the jars in the local Maven repository, " +
+                          "and duplicates whose copies are all byte-for-byte identical are not reported. " +
+                          "Duplicates whose jars are not in the local repository are always reported. " +
+                          "Defaults to false.",
+            required = false,
+            example = "true")
+    @Nullable
+    Boolean compareClassContents;
+
+    @Option(displayName = "Summarize",
+            description = "When enabled, duplicates are written to the duplicate classes summary with one row for each set of " +
+                          "dependencies sharing duplicate classes, rather than one row per duplicate class. " +
+                          "Defaults to false.",
+            required = false,
+            example = "true")
+    @Nullable
+    Boolean summarize;
 
     String displayName = "Find duplicate classes on the classpath";
 
     String description = "Detects classes that appear in multiple dependencies on the classpath. " +
             "This is similar to what the Maven duplicate-finder-maven-plugin does. " +
             "Duplicate classes can cause runtime issues when different versions " +
-            "of the same class are loaded.";
+            "of the same class are loaded. Packages whose classes are split across multiple dependencies " +
+            "are reported as well.";
 
     public static class Accumulator {
         Set<ProjectSourceSet> seen = new HashSet<>();
+
+        /**
+         * Many modules of a build share an identical classpath, so duplicates are computed once per distinct set
+         * of GAVs and reused for the source sets that follow with that classpath. Only the most recently used
+         * results are held, so that memory stays bounded on large builds, and a classpath whose result was
+         * dropped is computed again.
+         */
+        Map<Set<String>, ClasspathDuplicates> recentDuplicatesByClasspath =
+                new LinkedHashMap<Set<String>, ClasspathDuplicates>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Set<String>, ClasspathDuplicates> eldest) {
+                        return size() > MAX_RECENT_CLASSPATHS;
+                    }
+                };
+
+        DuplicateClassPairs pairs = new DuplicateClassPairs(MAX_HOTSPOT_PAIRS);
+    }
+
+    @Value
+    private static class ClasspathDuplicates {
+        List<SplitPackage> splitPackages;
+
+        /**
+         * Empty when summarizing, so that only the summary is held for each classpath.
+         */
+        List<DuplicateClass> duplicateClasses;
+
+        List<DuplicateSet> duplicateSets;
+
+        /**
+         * The number of classes each pair of GAVs has in common on the classpath, keyed as in
+         * {@link DuplicateClassPairs}, so that the hotspots count every project using the classpath.
+         */
+        Map<Long, Integer> pairCounts;
     }
 
     @Value
@@ -86,36 +163,49 @@ public class FindDuplicateClasses extends ScanningRecipe<FindDuplicateClasses.Ac
                     return cu;
                 }
 
-                // Invert the mapping: type name -> list of GAVs containing that type
-                Map<String, List<String>> typeToGavs = new HashMap<>();
-                for (Map.Entry<String, List<JavaType.FullyQualified>> entry : gavToTypes.entrySet()) {
-                    String gav = entry.getKey();
-                    for (JavaType.FullyQualified type : entry.getValue()) {
-                        typeToGavs.computeIfAbsent(type.getFullyQualifiedName(), k -> new ArrayList<>()).add(gav);
-                    }
+                Set<String> classpath = new HashSet<>(gavToTypes.keySet());
+                ClasspathDuplicates result = acc.recentDuplicatesByClasspath.computeIfAbsent(classpath, k -> {
+                    DuplicateClassFinder.Result found = DuplicateClassFinder.find(gavToTypes);
+                    List<DuplicateClass> duplicates = Boolean.TRUE.equals(compareClassContents) ?
+                            withDifferentContents(found.getDuplicateClasses(), ctx) :
+                            found.getDuplicateClasses();
+                    Map<Long, Integer> pairCounts = acc.pairs.countPairs(duplicates);
+                    return Boolean.TRUE.equals(summarize) ?
+                            new ClasspathDuplicates(found.getSplitPackages(), emptyList(),
+                                    DuplicateClassFinder.summarize(duplicates, MAX_SAMPLE_TYPE_NAMES), pairCounts) :
+                            new ClasspathDuplicates(found.getSplitPackages(), duplicates, emptyList(), pairCounts);
+                });
+                acc.pairs.record(projectName, result.getPairCounts());
+                for (SplitPackage splitPackage : result.getSplitPackages()) {
+                    splitPackagesReport.insertRow(ctx, new SplitPackagesReport.Row(
+                            projectName,
+                            sourceSet.getName(),
+                            splitPackage.getPackageName(),
+                            String.join(", ", splitPackage.getGavs())
+                    ));
                 }
-
-                // Report duplicates (types appearing in more than one GAV)
-                for (Map.Entry<String, List<String>> entry : typeToGavs.entrySet()) {
-                    List<String> gavs = entry.getValue();
-                    if (gavs.size() > 1) {
-                        String typeName = entry.getKey();
-                        // Skip module-info and package-info files (multi-release JAR false positives)
-                        if (typeName.contains("module-info") || typeName.endsWith("package-info")) {
-                            continue;
-                        }
-                        String additionalDeps = gavs.size() > 2 ?
-                                gavs.subList(2, gavs.size()).stream().collect(joining(", ")) :
-                                "";
-                        report.insertRow(ctx, new DuplicateClassesReport.Row(
-                                projectName,
-                                sourceSet.getName(),
-                                typeName,
-                                gavs.get(0),
-                                gavs.get(1),
-                                additionalDeps
-                        ));
-                    }
+                for (DuplicateClass duplicate : result.getDuplicateClasses()) {
+                    List<String> gavs = duplicate.getGavs();
+                    String additionalDeps = gavs.size() > 2 ?
+                            gavs.subList(2, gavs.size()).stream().collect(joining(", ")) :
+                            "";
+                    report.insertRow(ctx, new DuplicateClassesReport.Row(
+                            projectName,
+                            sourceSet.getName(),
+                            duplicate.getTypeName(),
+                            gavs.get(0),
+                            gavs.get(1),
+                            additionalDeps
+                    ));
+                }
+                for (DuplicateSet duplicateSet : result.getDuplicateSets()) {
+                    summary.insertRow(ctx, new DuplicateClassesSummary.Row(
+                            projectName,
+                            sourceSet.getName(),
+                            String.join(", ", duplicateSet.getGavs()),
+                            duplicateSet.getDuplicateClasses(),
+                            String.join(", ", duplicateSet.getSampleTypeNames())
+                    ));
                 }
 
                 return cu;
@@ -123,8 +213,50 @@ public class FindDuplicateClasses extends ScanningRecipe<FindDuplicateClasses.Ac
         };
     }
 
+    private static List<DuplicateClass> withDifferentContents(List<DuplicateClass> duplicates, ExecutionContext ctx) {
+        if (duplicates.isEmpty()) {
+            return duplicates;
+        }
+        Path localRepository;
+        try {
+            localRepository = Paths.get(URI.create(MavenExecutionContextView.view(ctx).getLocalRepository().getUri()));
+        } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+            return duplicates;
+        }
+
+        Map<String, Set<String>> typesByGav = new HashMap<>();
+        for (DuplicateClass duplicate : duplicates) {
+            for (String gav : duplicate.getGavs()) {
+                typesByGav.computeIfAbsent(gav, k -> new HashSet<>()).add(duplicate.getTypeName());
+            }
+        }
+        Map<String, Map<String, String>> digests = ClassFileDigests.get(ctx, localRepository).digests(typesByGav);
+
+        List<DuplicateClass> different = new ArrayList<>();
+        for (DuplicateClass duplicate : duplicates) {
+            Set<String> distinctDigests = new HashSet<>();
+            for (String gav : duplicate.getGavs()) {
+                // A copy that can't be read can't be shown to be identical
+                distinctDigests.add(digests.getOrDefault(gav, emptyMap()).getOrDefault(duplicate.getTypeName(), gav));
+            }
+            if (distinctDigests.size() > 1) {
+                different.add(duplicate);
+            }
+        }
+        return different;
+    }
+
     @Override
     public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        for (DuplicateClassPairs.Pair pair : acc.pairs.getPairs()) {
+            hotspots.insertRow(ctx, new DuplicateClassHotspots.Row(
+                    pair.getGav1(),
+                    pair.getGav2(),
+                    pair.getProjects(),
+                    pair.getProjectsError(),
+                    pair.getDuplicateClasses()
+            ));
+        }
         return emptyList();
     }
 }
@@ -22,10 +22,15 @@ import org.openrewrite.*;
 import org.openrewrite.gradle.IsBuildGradle;
 import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
 import org.openrewrite.gradle.marker.GradleProject;
-import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.dependencies.internal.DependencyIndex;
+import org.openrewrite.java.dependencies.internal.MarkerMemo;
 import org.openrewrite.java.dependencies.internal.StaticVersionComparator;
+import org.openrewrite.java.dependencies.internal.Version;
+import org.openrewrite.java.dependencies.internal.VersionHistogram;
 import org.openrewrite.java.dependencies.internal.VersionParser;
+import org.openrewrite.java.dependencies.table.VersionDistribution;
 import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.marker.Marker;
 import org.openrewrite.marker.Markers;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.maven.search.FindMavenProject;
@@ -35,13 +40,20 @@ import org.openrewrite.semver.Semver;
 import org.openrewrite.semver.VersionComparator;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Objects.requireNonNull;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
-public class FindMinimumDependencyVersion extends ScanningRecipe<Map<GroupArtifact, ResolvedGroupArtifactVersion>> {
+public class FindMinimumDependencyVersion extends ScanningRecipe<FindMinimumDependencyVersion.Accumulator> {
+    private static final int MAX_DISTRIBUTION_VERSIONS = 256;
+
     transient DependenciesInUse dependenciesInUse = new DependenciesInUse(this);
+    transient VersionDistribution versionDistribution = new VersionDistribution(this);
 
     @Option(displayName = "Group pattern",
             description = "Group ID glob pattern used to match dependencies.",
@@ -62,6 +74,15 @@ public class FindMinimumDependencyVersion extends ScanningRecipe<Map<GroupArtifa
     @Nullable
     String version;
 
+    @Option(displayName = "Report version distribution",
+            description = "When enabled, the number of projects using each version of every matching dependency is reported " +
+                          "in a version distribution data table, along with the median and 90th percentile versions. " +
+                          "Defaults to false.",
+            required = false,
+            example = "true")
+    @Nullable
+    Boolean reportDistribution;
+
     String displayName = "Find the oldest matching dependency version in use";
 
     String description = "The oldest dependency version in use is the lowest dependency " +
@@ -71,13 +92,123 @@ public class FindMinimumDependencyVersion extends ScanningRecipe<Map<GroupArtifa
                "uses Jackson 2.16. In this case, the oldest Jackson version in use is " +
                "Java 2.11.";
 
+    /**
+     * Safe to update from concurrent scans. Accumulators of separate scans, for example of partitions of the
+     * source files, can be combined with {@link #merge(Accumulator)} before the visitor is created.
+     */
+    public static class Accumulator {
+        /**
+         * The versions found in each project. A build marker replaced by a recipe that changed its dependencies is
+         * scanned again in the next cycle, and its versions replace those of the marker it replaced, so that the
+         * minimums and the distribution are those of the dependencies as they are now. Gradle script plugins
+         * sharing the marker of their build script are counted once.
+         */
+        final MarkerMemo<ProjectVersions> projects = new MarkerMemo<>();
+
+        /**
+         * The dependency versions to mark, computed once the scan is complete, and again after a cycle in which
+         * a project's versions changed.
+         */
+        @Nullable
+        volatile Set<ResolvedGroupArtifactVersion> located;
+
+        /**
+         * The search result of each build marker, for the dependency versions that are {@link #located}.
+         */
+        volatile MarkerMemo<String> foundByMarker = new MarkerMemo<>();
+
+        /**
+         * Scans the project of the marker, unless this very marker has already been scanned.
+         */
+        void scan(Marker marker, Supplier<ProjectVersions> scan) {
+            if (projects.get(marker) == null) {
+                projects.computeIfAbsent(marker, scan);
+                located = null;
+            }
+        }
+
+        /**
+         * @return The oldest version of each dependency, across all projects.
+         */
+        Map<GroupArtifact, MinimumVersion> minimums() {
+            Map<GroupArtifact, MinimumVersion> minimums = new HashMap<>();
+            for (ProjectVersions project : projects.values()) {
+                project.minimums.forEach((ga, minimum) -> minimums.merge(ga, minimum, MinimumVersion::min));
+            }
+            return minimums;
+        }
+
+        Set<ResolvedGroupArtifactVersion> located(Function<Map<GroupArtifact, MinimumVersion>, Set<ResolvedGroupArtifactVersion>> locate) {
+            Set<ResolvedGroupArtifactVersion> located = this.located;
+            if (located == null) {
+                located = locate.apply(minimums());
+                foundByMarker = new MarkerMemo<>();
+                this.located = located;
+            }
+            return located;
+        }
+
+        /**
+         * Combines the scan results of two accumulators into a new one. The operation is associative, so any number
+         * of accumulators can be combined. A build marker seen by both scans is counted once, with the versions
+         * found by the later of the two.
+         */
+        public Accumulator merge(Accumulator other) {
+            Accumulator merged = new Accumulator();
+            merged.projects.putAll(projects);
+            merged.projects.putAll(other.projects);
+            return merged;
+        }
+    }
+
+    /**
+     * The versions of the matching dependencies found in one project.
+     */
+    static class ProjectVersions {
+        final Map<GroupArtifact, MinimumVersion> minimums = new HashMap<>();
+
+        /**
+         * Every version of each matching dependency, when the version distribution is reported.
+         */
+        @Nullable
+        final Map<GroupArtifact, Set<String>> versions;
+
+        ProjectVersions(boolean distribution) {
+            this.versions = distribution ? new HashMap<>() : null;
+        }
+
+        void addVersion(ResolvedGroupArtifactVersion gav, Version version) {
+            GroupArtifact ga = new GroupArtifact(gav.getGroupId(), gav.getArtifactId());
+            minimums.merge(ga, new MinimumVersion(gav, version), MinimumVersion::min);
+            if (versions != null) {
+                versions.computeIfAbsent(ga, k -> new HashSet<>()).add(gav.getVersion());
+            }
+        }
+    }
+
+    @Value
+    static class MinimumVersion {
+        private static final StaticVersionComparator VERSION_COMPARATOR = new StaticVersionComparator();
+
+        ResolvedGroupArtifactVersion gav;
+
+        /**
+         * Parsed once, when the version is first seen, rather than on every comparison.
+         */
+        Version version;
+
+        MinimumVersion min(MinimumVersion other) {
+            return VERSION_COMPARATOR.compareStrictly(version, other.version) <= 0 ? this : other;
+        }
+    }
+
     @Override
-    public Map<GroupArtifact, ResolvedGroupArtifactVersion> getInitialValue(ExecutionContext ctx) {
-        return new HashMap<>();
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getScanner(Map<GroupArtifact, ResolvedGroupArtifactVersion> acc) {
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
@@ -86,43 +217,54 @@ public class FindMinimumDependencyVersion extends ScanningRecipe<Map<GroupArtifa
                 }
                 VersionParser versionParser = new VersionParser();
                 Markers m = tree.getMarkers();
-                m.findFirst(GradleProject.class).ifPresent(gradle -> {
-                    for (GradleDependencyConfiguration conf : gradle.getConfigurations()) {
-                        collectMinimumVersions(versionParser, conf.getResolved(), acc);
-                    }
-                });
-                m.findFirst(MavenResolutionResult.class).ifPresent(maven -> {
-                    for (List<ResolvedDependency> resolved : maven.getDependencies().values()) {
-                        collectMinimumVersions(versionParser, resolved, acc);
-                    }
-                });
+                m.findFirst(GradleProject.class).ifPresent(gradle ->
+                        acc.scan(gradle, () -> collectVersions(versionParser, DependencyIndex.get(ctx, gradle))));
+                m.findFirst(MavenResolutionResult.class).ifPresent(maven ->
+                        acc.scan(maven, () -> collectVersions(versionParser, DependencyIndex.get(ctx, maven))));
                 return tree;
             }
         };
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor(Map<GroupArtifact, ResolvedGroupArtifactVersion> acc) {
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        Set<ResolvedGroupArtifactVersion> located = acc.located(this::locateMinimumVersions);
+        if (located.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        return applyMarkersForLocatedGavs(located, acc.foundByMarker, dependenciesInUse);
+    }
+
+    private Set<ResolvedGroupArtifactVersion> locateMinimumVersions(Map<GroupArtifact, MinimumVersion> minimums) {
         VersionComparator versionComparator = version == null ? null :
                 requireNonNull(Semver.validate(version, null).getValue());
-        StaticVersionComparator staticVersionComparator = new StaticVersionComparator();
-        VersionParser versionParser = new VersionParser();
-        String minimumVersion = acc.values().stream().map(ResolvedGroupArtifactVersion::getVersion)
-                .min((d1, d2) -> staticVersionComparator.compare(
-                        versionParser.transform(d1),
-                        versionParser.transform(d2)))
+        String minimumVersion = minimums.values().stream()
+                .reduce(MinimumVersion::min)
+                .map(min -> min.getGav().getVersion())
                 .filter(min -> versionComparator == null || versionComparator.isValid(null, min))
                 .orElse(null);
         if (minimumVersion == null) {
-            return TreeVisitor.noop();
+            return emptySet();
         }
 
-        acc.entrySet().removeIf(e -> !e.getValue().getVersion().equals(minimumVersion));
-
-        return applyMarkersForLocatedGavs(acc, dependenciesInUse);
+        Set<ResolvedGroupArtifactVersion> located = new HashSet<>();
+        for (MinimumVersion minimum : minimums.values()) {
+            if (minimum.getGav().getVersion().equals(minimumVersion)) {
+                located.add(minimum.getGav());
+            }
+        }
+        return located;
     }
 
-    static TreeVisitor<?, ExecutionContext> applyMarkersForLocatedGavs(Map<GroupArtifact, ResolvedGroupArtifactVersion> acc, DependenciesInUse dependenciesInUse) {
+    /**
+     * @param located         The dependency versions to mark.
+     * @param foundByMarker   The search result for each build marker that has already been visited. Freestanding
+     *                        Gradle script plugins share the GradleProject marker of their build script, so each
+     *                        marker's dependencies are only searched and reported once.
+     */
+    static TreeVisitor<?, ExecutionContext> applyMarkersForLocatedGavs(Set<ResolvedGroupArtifactVersion> located,
+                                                                       MarkerMemo<String> foundByMarker,
+                                                                       DependenciesInUse dependenciesInUse) {
         return Preconditions.check(Preconditions.or(new IsBuildGradle<>(), new FindMavenProject().getVisitor()), new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
@@ -130,64 +272,103 @@ public class FindMinimumDependencyVersion extends ScanningRecipe<Map<GroupArtifa
                     return null;
                 }
                 Markers m = tree.getMarkers();
+                String sourceSet = m.findFirst(JavaSourceSet.class).map(JavaSourceSet::getName).orElse("unknown");
                 Tree t = tree;
-                t = m.findFirst(GradleProject.class).map(gradle -> {
-                    Tree t2 = tree;
-                    for (GradleDependencyConfiguration conf : gradle.getConfigurations()) {
-                        List<ResolvedDependency> resolved = conf.getResolved();
-                        t2 = recordMinimumDependencyUse(ctx, gradle.getName(), conf.getName(), resolved, t2);
-                    }
-                    return t2;
-                }).orElse(t);
-
-                return m.findFirst(MavenResolutionResult.class).map(maven -> {
-                    Tree t2 = tree;
-                    for (Map.Entry<Scope, List<ResolvedDependency>> resolved : maven.getDependencies().entrySet()) {
-                        t2 = recordMinimumDependencyUse(ctx, maven.getPom().getArtifactId(),
-                                resolved.getKey().toString().toLowerCase(), resolved.getValue(), t2);
-                    }
-                    return t2;
-                }).orElse(t);
+                Optional<GradleProject> gradle = m.findFirst(GradleProject.class);
+                if (gradle.isPresent()) {
+                    t = found(t, foundByMarker.computeIfAbsent(gradle.get(), () -> {
+                        Set<String> minimums = new TreeSet<>();
+                        for (GradleDependencyConfiguration conf : gradle.get().getConfigurations()) {
+                            recordMinimumDependencyUse(ctx, gradle.get().getName(), conf.getName(), sourceSet,
+                                    conf.getResolved(), minimums);
+                        }
+                        return String.join("\n", minimums);
+                    }));
+                }
+
+                Optional<MavenResolutionResult> maven = m.findFirst(MavenResolutionResult.class);
+                if (maven.isPresent()) {
+                    t = found(t, foundByMarker.computeIfAbsent(maven.get(), () -> {
+                        Set<String> minimums = new TreeSet<>();
+                        for (Map.Entry<Scope, List<ResolvedDependency>> resolved : maven.get().getDependencies().entrySet()) {
+                            recordMinimumDependencyUse(ctx, maven.get().getPom().getArtifactId(),
+                                    resolved.getKey().toString().toLowerCase(), sourceSet, resolved.getValue(), minimums);
+                        }
+                        return String.join("\n", minimums);
+                    }));
+                }
+                return t;
+            }
+
+            private Tree found(Tree t, String minimums) {
+                return minimums.isEmpty() ? t : SearchResult.found(t, minimums);
             }
 
-            private Tree recordMinimumDependencyUse(ExecutionContext ctx, String projectName, String scope, List<ResolvedDependency> resolved, Tree t) {
-                Set<String> minimums = new TreeSet<>();
+            private void recordMinimumDependencyUse(ExecutionContext ctx, String projectName, String scope, String sourceSet,
+                                                    List<ResolvedDependency> resolved, Set<String> minimums) {
                 for (ResolvedDependency dep : resolved) {
-                    for (ResolvedGroupArtifactVersion min : acc.values()) {
-                        if (dep.getGav().equals(min)) {
-                            minimums.add(dep.getGav().toString());
-                            dependenciesInUse.insertRow(ctx, new DependenciesInUse.Row(
-                                    projectName,
-                                    t.getMarkers().findFirst(JavaSourceSet.class).map(JavaSourceSet::getName).orElse("unknown"),
-                                    dep.getGroupId(),
-                                    dep.getArtifactId(),
-                                    dep.getVersion(),
-                                    dep.getGav().getDatedSnapshotVersion(),
-                                    scope,
-                                    1));
-                        }
+                    if (located.contains(dep.getGav())) {
+                        minimums.add(dep.getGav().toString());
+                        dependenciesInUse.insertRow(ctx, new DependenciesInUse.Row(
+                                projectName,
+                                sourceSet,
+                                dep.getGroupId(),
+                                dep.getArtifactId(),
+                                dep.getVersion(),
+                                dep.getGav().getDatedSnapshotVersion(),
+                                scope,
+                                1));
                     }
                 }
-                if (!minimums.isEmpty()) {
-                    return SearchResult.found(t, String.join("\n", minimums));
-                }
-                return t;
             }
         });
     }
 
-    private void collectMinimumVersions(VersionParser versionParser, List<ResolvedDependency> resolved,
-                                        Map<GroupArtifact, ResolvedGroupArtifactVersion> acc) {
-        StaticVersionComparator versionComparator = new StaticVersionComparator();
-        for (ResolvedDependency dep : resolved) {
-            if (StringUtils.matchesGlob(dep.getGroupId(), groupIdPattern) &&
-                StringUtils.matchesGlob(dep.getArtifactId(), artifactIdPattern)) {
-                acc.merge(new GroupArtifact(dep.getGroupId(), dep.getArtifactId()),
-                        dep.getGav(), (d1, d2) -> versionComparator.compare(
-                                versionParser.transform(d1.getVersion()),
-                                versionParser.transform(d2.getVersion())) < 0 ?
-                                d1 : d2);
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        if (!Boolean.TRUE.equals(reportDistribution)) {
+            return emptyList();
+        }
+        VersionParser versionParser = new VersionParser();
+        Map<GroupArtifact, VersionHistogram> distribution = new TreeMap<>(
+                Comparator.comparing(GroupArtifact::getGroupId).thenComparing(GroupArtifact::getArtifactId));
+        for (ProjectVersions project : acc.projects.values()) {
+            if (project.versions == null) {
+                continue;
+            }
+            for (Map.Entry<GroupArtifact, Set<String>> versions : project.versions.entrySet()) {
+                VersionHistogram histogram = distribution.computeIfAbsent(versions.getKey(),
+                        k -> new VersionHistogram(MAX_DISTRIBUTION_VERSIONS));
+                for (String v : versions.getValue()) {
+                    histogram.add(versionParser.transform(v));
+                }
+            }
+        }
+        for (Map.Entry<GroupArtifact, VersionHistogram> dependency : distribution.entrySet()) {
+            GroupArtifact ga = dependency.getKey();
+            VersionHistogram histogram = dependency.getValue();
+            String median = histogram.percentile(0.5);
+            String p90 = histogram.percentile(0.9);
+            for (Map.Entry<String, Long> count : histogram.getCounts().entrySet()) {
+                versionDistribution.insertRow(ctx, new VersionDistribution.Row(
+                        ga.getGroupId(),
+                        ga.getArtifactId(),
+                        count.getKey(),
+                        count.getValue(),
+                        median,
+                        p90
+                ));
             }
         }
+        return emptyList();
+    }
+
+    private ProjectVersions collectVersions(VersionParser versionParser, DependencyIndex index) {
+        ProjectVersions project = new ProjectVersions(Boolean.TRUE.equals(reportDistribution));
+        for (DependencyIndex.Occurrence occurrence : index.find(groupIdPattern, artifactIdPattern)) {
+            ResolvedDependency dep = occurrence.getDependency();
+            project.addVersion(dep.getGav(), versionParser.transform(dep.getVersion()));
+        }
+        return project;
     }
 }
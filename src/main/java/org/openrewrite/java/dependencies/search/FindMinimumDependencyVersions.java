@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.dependencies.internal.DependencyIndex;
+import org.openrewrite.java.dependencies.internal.VersionParser;
+import org.openrewrite.java.dependencies.search.FindMinimumDependencyVersion.MinimumVersion;
+import org.openrewrite.java.dependencies.search.FindMinimumDependencyVersion.ProjectVersions;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.table.DependenciesInUse;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedGroupArtifactVersion;
+import org.openrewrite.semver.Semver;
+import org.openrewrite.semver.VersionComparator;
+
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
+import static org.openrewrite.java.dependencies.search.FindMinimumDependencyVersion.applyMarkersForLocatedGavs;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindMinimumDependencyVersions extends ScanningRecipe<FindMinimumDependencyVersions.Accumulator> {
+    transient DependenciesInUse dependenciesInUse = new DependenciesInUse(this);
+
+    @Option(displayName = "Dependency patterns",
+            description = "The dependencies to find the oldest version of, each in the form `groupId:artifactId` or " +
+                          "`groupId:artifactId:version`, with the parts separated by `:`. An entry may also be a list of patterns " +
+                          "separated by `,`. Group and artifact IDs are glob patterns, and the optional version is a " +
+                          "node-style [version selector](https://docs.openrewrite.org/reference/dependency-version-selectors).",
+            example = "com.fasterxml.jackson*:jackson-core:2.x")
+    List<String> dependencyPatterns;
+
+    String displayName = "Find the oldest matching dependency versions in use";
+
+    String description = "Finds the oldest dependency version in use for each of several dependency patterns in a single pass " +
+               "over the build markers. For each pattern, this is the same result as " +
+               "`org.openrewrite.java.dependencies.search.FindMinimumDependencyVersion` with that pattern.";
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(CoordinatePattern.validate("dependencyPatterns", dependencyPatterns, false));
+    }
+
+    /**
+     * The versions found in each project, the located minimums and the search result of each build marker are held
+     * as they are for {@link FindMinimumDependencyVersion}, along with the patterns matching each dependency.
+     */
+    public static class Accumulator extends FindMinimumDependencyVersion.Accumulator {
+        final List<DependencyPattern> patterns;
+
+        /**
+         * Patterns without wildcards, by "groupId:artifactId", so that most patterns are matched by a single lookup.
+         */
+        final Map<String, List<Integer>> exactPatterns = new HashMap<>();
+
+        final List<Integer> globPatterns = new ArrayList<>();
+
+        final Map<GroupArtifact, int[]> matchingPatterns = new HashMap<>();
+
+        Accumulator(List<DependencyPattern> patterns) {
+            this.patterns = patterns;
+            for (int i = 0; i < patterns.size(); i++) {
+                DependencyPattern pattern = patterns.get(i);
+                if (isExact(pattern.getGroupIdPattern()) && isExact(pattern.getArtifactIdPattern())) {
+                    exactPatterns.computeIfAbsent(pattern.getGroupIdPattern() + ":" + pattern.getArtifactIdPattern(),
+                            k -> new ArrayList<>()).add(i);
+                } else {
+                    globPatterns.add(i);
+                }
+            }
+        }
+
+        int[] match(GroupArtifact ga) {
+            return matchingPatterns.computeIfAbsent(ga, k -> {
+                List<Integer> matches = new ArrayList<>(exactPatterns.getOrDefault(
+                        ga.getGroupId() + ":" + ga.getArtifactId(), Collections.emptyList()));
+                for (Integer i : globPatterns) {
+                    DependencyPattern pattern = patterns.get(i);
+                    if (StringUtils.matchesGlob(ga.getGroupId(), pattern.getGroupIdPattern()) &&
+                        StringUtils.matchesGlob(ga.getArtifactId(), pattern.getArtifactIdPattern())) {
+                        matches.add(i);
+                    }
+                }
+                int[] indexes = new int[matches.size()];
+                for (int j = 0; j < indexes.length; j++) {
+                    indexes[j] = matches.get(j);
+                }
+                return indexes;
+            });
+        }
+
+        private static boolean isExact(String pattern) {
+            return pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0;
+        }
+    }
+
+    @Value
+    static class DependencyPattern {
+        String groupIdPattern;
+        String artifactIdPattern;
+
+        @Nullable
+        VersionComparator version;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        List<DependencyPattern> patterns = new ArrayList<>();
+        for (CoordinatePattern pattern : CoordinatePattern.parse(dependencyPatterns)) {
+            patterns.add(new DependencyPattern(pattern.getGroupIdPattern(), pattern.getArtifactIdPattern(),
+                    pattern.getVersion() == null ? null : requireNonNull(Semver.validate(pattern.getVersion(), null).getValue())));
+        }
+        return new Accumulator(patterns);
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree == null) {
+                    return null;
+                }
+                VersionParser versionParser = new VersionParser();
+                Markers m = tree.getMarkers();
+                m.findFirst(GradleProject.class).ifPresent(gradle ->
+                        acc.scan(gradle, () -> collectMinimumVersions(versionParser, DependencyIndex.get(ctx, gradle), acc)));
+                m.findFirst(MavenResolutionResult.class).ifPresent(maven ->
+                        acc.scan(maven, () -> collectMinimumVersions(versionParser, DependencyIndex.get(ctx, maven), acc)));
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        Set<ResolvedGroupArtifactVersion> located = acc.located(minimums -> locateMinimumVersions(acc, minimums));
+        if (located.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        return applyMarkersForLocatedGavs(located, acc.foundByMarker, dependenciesInUse);
+    }
+
+    private static Set<ResolvedGroupArtifactVersion> locateMinimumVersions(Accumulator acc,
+                                                                          Map<GroupArtifact, MinimumVersion> minimums) {
+        List<List<MinimumVersion>> minimumsByPattern = new ArrayList<>(acc.patterns.size());
+        for (int i = 0; i < acc.patterns.size(); i++) {
+            minimumsByPattern.add(new ArrayList<>());
+        }
+        for (Map.Entry<GroupArtifact, MinimumVersion> minimum : minimums.entrySet()) {
+            for (int i : acc.match(minimum.getKey())) {
+                minimumsByPattern.get(i).add(minimum.getValue());
+            }
+        }
+
+        Set<ResolvedGroupArtifactVersion> located = new HashSet<>();
+        for (int i = 0; i < acc.patterns.size(); i++) {
+            VersionComparator versionComparator = acc.patterns.get(i).getVersion();
+            List<MinimumVersion> patternMinimums = minimumsByPattern.get(i);
+            String minimumVersion = patternMinimums.stream()
+                    .reduce(MinimumVersion::min)
+                    .map(min -> min.getGav().getVersion())
+                    .filter(min -> versionComparator == null || versionComparator.isValid(null, min))
+                    .orElse(null);
+            if (minimumVersion == null) {
+                continue;
+            }
+            for (MinimumVersion minimum : patternMinimums) {
+                if (minimum.getGav().getVersion().equals(minimumVersion)) {
+                    located.add(minimum.getGav());
+                }
+            }
+        }
+        return located;
+    }
+
+    private static ProjectVersions collectMinimumVersions(VersionParser versionParser, DependencyIndex index, Accumulator acc) {
+        ProjectVersions project = new ProjectVersions(false);
+        for (GroupArtifact ga : index.getGroupArtifacts()) {
+            if (acc.match(ga).length == 0) {
+                continue;
+            }
+            for (DependencyIndex.Occurrence occurrence : index.getOccurrences(ga)) {
+                ResolvedGroupArtifactVersion gav = occurrence.getDependency().getGav();
+                MinimumVersion minimum = project.minimums.get(ga);
+                // Most occurrences are of the current minimum, which is not parsed again
+                if (minimum == null || !minimum.getGav().equals(gav)) {
+                    project.addVersion(gav, versionParser.transform(gav.getVersion()));
+                }
+            }
+        }
+        return project;
+    }
+}
@@ -19,10 +19,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
 import org.openrewrite.gradle.marker.GradleProject;
-import org.openrewrite.internal.StringUtils;
-import org.openrewrite.java.dependencies.internal.StaticVersionComparator;
+import org.openrewrite.java.dependencies.internal.DependencyIndex;
 import org.openrewrite.java.dependencies.internal.VersionParser;
 import org.openrewrite.marker.Markers;
 import org.openrewrite.maven.table.DependenciesInUse;
@@ -31,16 +29,14 @@ import org.openrewrite.maven.tree.MavenResolutionResult;
 import org.openrewrite.maven.tree.ResolvedDependency;
 import org.openrewrite.maven.tree.ResolvedGroupArtifactVersion;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 
+import static java.util.Collections.emptySet;
 import static org.openrewrite.java.dependencies.search.FindMinimumDependencyVersion.applyMarkersForLocatedGavs;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
-public class FindMinimumJUnitVersion extends ScanningRecipe<Map<GroupArtifact, ResolvedGroupArtifactVersion>> {
+public class FindMinimumJUnitVersion extends ScanningRecipe<FindMinimumDependencyVersion.Accumulator> {
     transient DependenciesInUse dependenciesInUse = new DependenciesInUse(this);
 
     @Option(displayName = "Version",
@@ -68,12 +64,12 @@ public class FindMinimumJUnitVersion extends ScanningRecipe<Map<GroupArtifact, R
                "the recipe will not return any results.";
 
     @Override
-    public Map<GroupArtifact, ResolvedGroupArtifactVersion> getInitialValue(ExecutionContext ctx) {
-        return new HashMap<>();
+    public FindMinimumDependencyVersion.Accumulator getInitialValue(ExecutionContext ctx) {
+        return new FindMinimumDependencyVersion.Accumulator();
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getScanner(Map<GroupArtifact, ResolvedGroupArtifactVersion> acc) {
+    public TreeVisitor<?, ExecutionContext> getScanner(FindMinimumDependencyVersion.Accumulator acc) {
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
@@ -82,18 +78,10 @@ public class FindMinimumJUnitVersion extends ScanningRecipe<Map<GroupArtifact, R
                 }
                 VersionParser versionParser = new VersionParser();
                 Markers m = tree.getMarkers();
-                m.findFirst(GradleProject.class).ifPresent(gradle -> {
-                    for (GradleDependencyConfiguration conf : gradle.getConfigurations()) {
-                        collectionJUnit4(versionParser, conf.getResolved(), acc);
-                        collectionJUnit5(versionParser, conf.getResolved(), acc);
-                    }
-                });
-                m.findFirst(MavenResolutionResult.class).ifPresent(maven -> {
-                    for (List<ResolvedDependency> resolved : maven.getDependencies().values()) {
-                        collectionJUnit4(versionParser, resolved, acc);
-                        collectionJUnit5(versionParser, resolved, acc);
-                    }
-                });
+                m.findFirst(GradleProject.class).ifPresent(gradle ->
+                        acc.scan(gradle, () -> collectJUnitVersions(versionParser, DependencyIndex.get(ctx, gradle))));
+                m.findFirst(MavenResolutionResult.class).ifPresent(maven ->
+                        acc.scan(maven, () -> collectJUnitVersions(versionParser, DependencyIndex.get(ctx, maven))));
                 return tree;
             }
         };
@@ -105,50 +93,53 @@ public class FindMinimumJUnitVersion extends ScanningRecipe<Map<GroupArtifact, R
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor(Map<GroupArtifact, ResolvedGroupArtifactVersion> acc) {
-        boolean hasJUnit4 = acc.values().stream().anyMatch(resolvedGroupArtifactVersion -> isResolvedGroupArtifactVersion(resolvedGroupArtifactVersion, "junit", "junit"));
-        boolean hasJUnit5 = acc.values().stream().anyMatch(resolvedGroupArtifactVersion -> isResolvedGroupArtifactVersion(resolvedGroupArtifactVersion, "org.junit.jupiter", "junit-jupiter-api"));
+    public TreeVisitor<?, ExecutionContext> getVisitor(FindMinimumDependencyVersion.Accumulator acc) {
+        Set<ResolvedGroupArtifactVersion> located = acc.located(this::locateMinimumVersions);
+        if (located.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        return applyMarkersForLocatedGavs(located, acc.foundByMarker, dependenciesInUse);
+    }
+
+    private Set<ResolvedGroupArtifactVersion> locateMinimumVersions(Map<GroupArtifact, FindMinimumDependencyVersion.MinimumVersion> acc) {
+        boolean hasJUnit4 = acc.values().stream().anyMatch(minimum -> isResolvedGroupArtifactVersion(minimum.getGav(), "junit", "junit"));
+        boolean hasJUnit5 = acc.values().stream().anyMatch(minimum -> isResolvedGroupArtifactVersion(minimum.getGav(), "org.junit.jupiter", "junit-jupiter-api"));
         if (Objects.equals(minimumVersion, "4")) {
             if (hasJUnit4) {
-                acc.entrySet().removeIf(e -> !isResolvedGroupArtifactVersion(e.getValue(), "junit", "junit"));
+                acc.entrySet().removeIf(e -> !isResolvedGroupArtifactVersion(e.getValue().getGav(), "junit", "junit"));
             } else {
-                return TreeVisitor.noop();
+                return emptySet();
             }
         } else if (Objects.equals(minimumVersion, "5")) {
             if (hasJUnit4) {
-                return TreeVisitor.noop();
+                return emptySet();
             }
-            acc.entrySet().removeIf(e -> !isResolvedGroupArtifactVersion(e.getValue(), "org.junit.jupiter", "junit-jupiter-api"));
+            acc.entrySet().removeIf(e -> !isResolvedGroupArtifactVersion(e.getValue().getGav(), "org.junit.jupiter", "junit-jupiter-api"));
         } else {
             if (hasJUnit4 && hasJUnit5) {
-                acc.entrySet().removeIf(e -> !isResolvedGroupArtifactVersion(e.getValue(), "junit", "junit"));
+                acc.entrySet().removeIf(e -> !isResolvedGroupArtifactVersion(e.getValue().getGav(), "junit", "junit"));
             }
         }
 
-        return applyMarkersForLocatedGavs(acc, dependenciesInUse);
-    }
-
-    private void collectionJUnit4(VersionParser versionParser, List<ResolvedDependency> resolved,
-                                  Map<GroupArtifact, ResolvedGroupArtifactVersion> acc) {
-        collectVersion(versionParser, resolved, "junit", "junit", acc);
+        Set<ResolvedGroupArtifactVersion> located = new HashSet<>();
+        for (FindMinimumDependencyVersion.MinimumVersion minimum : acc.values()) {
+            located.add(minimum.getGav());
+        }
+        return located;
     }
 
-    private void collectionJUnit5(VersionParser versionParser, List<ResolvedDependency> resolved,
-                                  Map<GroupArtifact, ResolvedGroupArtifactVersion> acc) {
-        collectVersion(versionParser, resolved, "org.junit.jupiter", "junit-jupiter-api", acc);
+    private static FindMinimumDependencyVersion.ProjectVersions collectJUnitVersions(VersionParser versionParser, DependencyIndex index) {
+        FindMinimumDependencyVersion.ProjectVersions project = new FindMinimumDependencyVersion.ProjectVersions(false);
+        collectVersion(versionParser, index, "junit", "junit", project);
+        collectVersion(versionParser, index, "org.junit.jupiter", "junit-jupiter-api", project);
+        return project;
     }
 
-    private static void collectVersion(VersionParser versionParser, List<ResolvedDependency> resolved, String groupIdPattern, String artifactIdPattern, Map<GroupArtifact, ResolvedGroupArtifactVersion> acc) {
-        StaticVersionComparator versionComparator = new StaticVersionComparator();
-        for (ResolvedDependency dep : resolved) {
-            if (StringUtils.matchesGlob(dep.getGroupId(), groupIdPattern) &&
-                    StringUtils.matchesGlob(dep.getArtifactId(), artifactIdPattern)) {
-                acc.merge(new GroupArtifact(dep.getGroupId(), dep.getArtifactId()),
-                        dep.getGav(), (d1, d2) -> versionComparator.compare(
-                                versionParser.transform(d1.getVersion()),
-                                versionParser.transform(d2.getVersion())) < 0 ?
-                                d1 : d2);
-            }
+    private static void collectVersion(VersionParser versionParser, DependencyIndex index, String groupId, String artifactId,
+                                       FindMinimumDependencyVersion.ProjectVersions project) {
+        for (DependencyIndex.Occurrence occurrence : index.getOccurrences(new GroupArtifact(groupId, artifactId))) {
+            ResolvedDependency dep = occurrence.getDependency();
+            project.addVersion(dep.getGav(), versionParser.transform(dep.getVersion()));
         }
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dependencies.table.ModuleDependencyMatrix;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class ModuleHasDependencies extends ScanningRecipe<ModuleHasDependencies.Accumulator> {
+    transient ModuleDependencyMatrix moduleDependencyMatrix = new ModuleDependencyMatrix(this);
+
+    @Option(displayName = "Dependency patterns",
+            description = "The dependencies to search for, each in the form `groupId:artifactId`, `groupId:artifactId:version` or " +
+                          "`groupId:artifactId:version:scope`, with the parts separated by `:`. An entry may also be a list of " +
+                          "patterns separated by `,`. Group and artifact IDs are glob patterns, and the optional version is a " +
+                          "node-style [version selector](https://docs.openrewrite.org/reference/dependency-version-selectors). " +
+                          "Leave the version empty to match any version in a scope, as in `groupId:artifactId::test`. " +
+                          "Each pattern matches modules the same way `org.openrewrite.java.dependencies.search.ModuleHasDependency` does.",
+            example = "org.springframework:spring-beans:6.x")
+    List<String> dependencyPatterns;
+
+    @Option(displayName = "Mark modules",
+            description = "If `true`, places a `SearchResult` marker listing the matching patterns on all sources within a module " +
+                          "that matches at least one pattern. Defaults to `false`, which only fills in the data table.",
+            required = false)
+    @Nullable
+    Boolean markModules;
+
+    String displayName = "Module has dependencies";
+
+    String description = "Searches for both Gradle and Maven modules that have dependencies matching each of several dependency patterns " +
+               "in a single pass. Whether each module matches each pattern is reported in a data table. " +
+               "This is the same result as running `org.openrewrite.java.dependencies.search.ModuleHasDependency` once per pattern.";
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(CoordinatePattern.validate("dependencyPatterns", dependencyPatterns, true));
+    }
+
+    public static class Accumulator {
+        final List<String> patterns = new ArrayList<>();
+
+        final List<DependencyQuery> queries = new ArrayList<>();
+
+        /**
+         * The indexes of the patterns that each module matches. Every module seen is present, matching or not.
+         */
+        final Map<JavaProject, BitSet> matchesByProject = new LinkedHashMap<>();
+
+        /**
+         * The search result description of each matching module, computed once when the scan is complete.
+         */
+        @Nullable
+        Map<JavaProject, String> descriptions;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        Accumulator acc = new Accumulator();
+        for (CoordinatePattern pattern : CoordinatePattern.parse(dependencyPatterns)) {
+            acc.patterns.add(pattern.getPattern());
+            acc.queries.add(new DependencyQuery(pattern.getGroupIdPattern(), pattern.getArtifactIdPattern(),
+                    pattern.getScope(), pattern.getVersion()));
+        }
+        return acc;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                assert tree != null;
+                Markers m = tree.getMarkers();
+                m.findFirst(JavaProject.class).ifPresent(jp -> {
+                    BitSet matches = acc.matchesByProject.computeIfAbsent(jp, k -> new BitSet(acc.queries.size()));
+                    // Only build files carry the markers that dependencies are resolved from
+                    if (!DependencyQuery.isBuildFile(tree)) {
+                        return;
+                    }
+                    for (int i = matches.nextClearBit(0); i < acc.queries.size(); i = matches.nextClearBit(i + 1)) {
+                        if (acc.queries.get(i).matches(tree, ctx)) {
+                            matches.set(i);
+                        }
+                    }
+                });
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        for (Map.Entry<JavaProject, BitSet> project : acc.matchesByProject.entrySet()) {
+            for (int i = 0; i < acc.patterns.size(); i++) {
+                moduleDependencyMatrix.insertRow(ctx, new ModuleDependencyMatrix.Row(
+                        project.getKey().getProjectName(),
+                        acc.patterns.get(i),
+                        project.getValue().get(i)));
+            }
+        }
+        return emptyList();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (!Boolean.TRUE.equals(markModules)) {
+            return TreeVisitor.noop();
+        }
+        if (acc.descriptions == null) {
+            acc.descriptions = describeMatches(acc);
+        }
+        Map<JavaProject, String> descriptions = acc.descriptions;
+        if (descriptions.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                assert tree != null;
+                String description = tree.getMarkers().findFirst(JavaProject.class).map(descriptions::get).orElse(null);
+                return description == null ? tree : SearchResult.found(tree, description);
+            }
+        };
+    }
+
+    private Map<JavaProject, String> describeMatches(Accumulator acc) {
+        Map<JavaProject, String> descriptions = new HashMap<>();
+        for (Map.Entry<JavaProject, BitSet> project : acc.matchesByProject.entrySet()) {
+            BitSet matches = project.getValue();
+            if (!matches.isEmpty()) {
+                StringJoiner description = new StringJoiner(", ", "Module has dependencies: ", "");
+                for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                    description.add(acc.patterns.get(i));
+                }
+                descriptions.put(project.getKey(), description.toString());
+            }
+        }
+        return descriptions;
+    }
+}
@@ -19,26 +19,16 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
-import org.openrewrite.gradle.marker.GradleProject;
-import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.marker.JavaProject;
 import org.openrewrite.marker.SearchResult;
-import org.openrewrite.maven.tree.Dependency;
-import org.openrewrite.maven.tree.MavenResolutionResult;
-import org.openrewrite.maven.tree.ResolvedDependency;
-import org.openrewrite.maven.tree.Scope;
-import org.openrewrite.semver.Semver;
-import org.openrewrite.semver.VersionComparator;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
-public class ModuleHasDependency extends ScanningRecipe<Set<JavaProject>> {
+public class ModuleHasDependency extends ScanningRecipe<ModuleHasDependency.Accumulator> {
 
     String displayName = "Module has dependency";
 
@@ -82,13 +72,27 @@ public class ModuleHasDependency extends ScanningRecipe<Set<JavaProject>> {
     @Nullable
     Boolean invertMarking;
 
+    @Option(displayName = "Mark build files only",
+            description = "If `true`, only the build files (`pom.xml`, `build.gradle` and `build.gradle.kts`) of the matching modules are marked, " +
+                          "rather than every source file. This keeps the result cheap to compute when the recipe is used as a precondition " +
+                          "of recipes that only change build files. Defaults to `false`.",
+            required = false)
+    @Nullable
+    Boolean markBuildFilesOnly;
+
+    @Value
+    public static class Accumulator {
+        DependencyQuery query;
+        Set<JavaProject> projects = new HashSet<>();
+    }
+
     @Override
-    public Set<JavaProject> getInitialValue(ExecutionContext ctx) {
-        return new HashSet<>();
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator(new DependencyQuery(groupIdPattern, artifactIdPattern, scope, version));
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getScanner(Set<JavaProject> acc) {
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
@@ -96,8 +100,8 @@ public class ModuleHasDependency extends ScanningRecipe<Set<JavaProject>> {
                 tree.getMarkers()
                         .findFirst(JavaProject.class)
                         .ifPresent(jp -> {
-                            if (!acc.contains(jp) && hasDependency(tree)) {
-                                acc.add(jp);
+                            if (!acc.getProjects().contains(jp) && acc.getQuery().matches(tree, ctx)) {
+                                acc.getProjects().add(jp);
                             }
                         });
                 return tree;
@@ -105,96 +109,18 @@ public class ModuleHasDependency extends ScanningRecipe<Set<JavaProject>> {
         };
     }
 
-    private boolean hasDependency(Tree tree) {
-        VersionComparator versionComparator = version != null ? Semver.validate(version, null).getValue() : null;
-
-        MavenResolutionResult mavenResult = tree.getMarkers().findFirst(MavenResolutionResult.class).orElse(null);
-        if (mavenResult != null) {
-            Scope requestedScope = scope == null ? null : Scope.fromName(scope);
-            List<ResolvedDependency> dependencies = mavenResult.findDependencies(groupIdPattern, artifactIdPattern, requestedScope);
-            Set<String> resolvedGAs = new HashSet<>();
-            for (ResolvedDependency dependency : dependencies) {
-                resolvedGAs.add(dependency.getGroupId() + ":" + dependency.getArtifactId());
-                if (versionComparator == null || versionComparator.isValid(null, dependency.getVersion())) {
-                    return true;
-                }
-            }
-            for (Dependency requested : mavenResult.getPom().getRequestedDependencies()) {
-                if (resolvedGAs.contains(requested.getGroupId() + ":" + requested.getArtifactId())) {
-                    continue;
-                }
-                if (matchesRequested(requested, requestedScope, versionComparator)) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-        GradleProject gp = tree.getMarkers().findFirst(GradleProject.class).orElse(null);
-        if (gp != null) {
-            Set<String> resolvedGAs = new HashSet<>();
-            for (GradleDependencyConfiguration c : gp.getConfigurations()) {
-                for (ResolvedDependency resolvedDependency : c.getDirectResolved()) {
-                    ResolvedDependency found = resolvedDependency.findDependency(groupIdPattern, artifactIdPattern);
-                    if (found != null) {
-                        resolvedGAs.add(found.getGroupId() + ":" + found.getArtifactId());
-                        if (versionComparator == null || versionComparator.isValid(null, found.getVersion())) {
-                            return true;
-                        }
-                    }
-                }
-            }
-            for (GradleDependencyConfiguration c : gp.getConfigurations()) {
-                for (Dependency requested : c.getRequested()) {
-                    if (resolvedGAs.contains(requested.getGroupId() + ":" + requested.getArtifactId())) {
-                        continue;
-                    }
-                    if (matchesRequested(requested, null, versionComparator)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean matchesRequested(Dependency dep, @Nullable Scope requestedScope, @Nullable VersionComparator versionComparator) {
-        if (dep.getGroupId() == null || dep.getArtifactId() == null) {
-            return false;
-        }
-        if (!StringUtils.matchesGlob(dep.getGroupId(), groupIdPattern)) {
-            return false;
-        }
-        if (!StringUtils.matchesGlob(dep.getArtifactId(), artifactIdPattern)) {
-            return false;
-        }
-        if (requestedScope != null) {
-            Scope depScope = dep.getScope() == null ? Scope.Compile : Scope.fromName(dep.getScope());
-            if (!depScope.isInClasspathOf(requestedScope)) {
-                return false;
-            }
-        }
-        return versionMatches(dep.getVersion(), versionComparator);
-    }
-
-    private static boolean versionMatches(@Nullable String version, @Nullable VersionComparator cmp) {
-        if (cmp == null) {
-            return true;
-        }
-        if (version == null || version.startsWith("${")) {
-            return false;
-        }
-        return cmp.isValid(null, version);
-    }
-
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor(Set<JavaProject> acc) {
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        boolean shouldInvert = invertMarking != null && invertMarking;
+        boolean buildFilesOnly = Boolean.TRUE.equals(markBuildFilesOnly);
+        String dependencyGav = groupIdPattern + ":" + artifactIdPattern + (version == null ? "" : ":" + version);
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
                 assert tree != null;
-                boolean shouldInvert = invertMarking != null && invertMarking;
-                String dependencyGav = groupIdPattern + ":" + artifactIdPattern + (version == null ? "" : ":" + version);
+                if (buildFilesOnly && !DependencyQuery.isBuildFile(tree)) {
+                    return tree;
+                }
                 Optional<JavaProject> maybeJp = tree.getMarkers().findFirst(JavaProject.class);
                 if (!maybeJp.isPresent()) {
                     if (shouldInvert) {
@@ -203,10 +129,10 @@ public class ModuleHasDependency extends ScanningRecipe<Set<JavaProject>> {
                     return tree;
                 }
                 JavaProject jp = maybeJp.get();
-                if (shouldInvert && !acc.contains(jp)) {
+                if (shouldInvert && !acc.getProjects().contains(jp)) {
                     return SearchResult.found(tree, "Module does not have dependency: " + dependencyGav);
                 }
-                if (!shouldInvert && acc.contains(jp)) {
+                if (!shouldInvert && acc.getProjects().contains(jp)) {
                     return SearchResult.found(tree, "Module has dependency: " + dependencyGav);
                 }
                 return tree;
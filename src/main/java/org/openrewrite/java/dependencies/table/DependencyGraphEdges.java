@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class DependencyGraphEdges extends DataTable<DependencyGraphEdges.Row> {
+    public DependencyGraphEdges(Recipe recipe) {
+        super(recipe,
+                "Dependency graph edges",
+                "The dependency relationships of each project in a normalized dependency graph");
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Project id",
+                description = "The id of the project whose dependency graph contains the edge.")
+        int projectId;
+
+        @Column(displayName = "Parent node id",
+                description = "The id of the dependency that depends on the child. Blank when the project depends on the child directly.")
+        @Nullable
+        Integer parentNodeId;
+
+        @Column(displayName = "Child node id",
+                description = "The id of the dependency being depended on.")
+        int childNodeId;
+
+        @Column(displayName = "Scopes",
+                description = "The scopes the project depends on the child through this edge in, " +
+                              "as a sum of 1 for Compile, 2 for Runtime and 4 for TestRuntime.")
+        int scopes;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class DependencyGraphNodes extends DataTable<DependencyGraphNodes.Row> {
+    public DependencyGraphNodes(Recipe recipe) {
+        super(recipe,
+                "Dependency graph nodes",
+                "The distinct dependencies of a normalized dependency graph, each listed once however many projects use it");
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Node id",
+                description = "The id of the dependency, referenced by the dependency graph edges.")
+        int nodeId;
+
+        @Column(displayName = "Group id",
+                description = "The Group ID of the dependency.")
+        String groupId;
+
+        @Column(displayName = "Artifact id",
+                description = "The Artifact ID of the dependency.")
+        String artifactId;
+
+        @Column(displayName = "Version",
+                description = "The version of the dependency.")
+        String version;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class DependencyGraphProjects extends DataTable<DependencyGraphProjects.Row> {
+    public DependencyGraphProjects(Recipe recipe) {
+        super(recipe,
+                "Dependency graph projects",
+                "The Gradle projects and Maven modules of a normalized dependency graph");
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Project id",
+                description = "The id of the project, referenced by the dependency graph edges.")
+        int projectId;
+
+        @Column(displayName = "Build tool",
+                description = "The build tool used to manage dependencies (Gradle or Maven).")
+        String buildTool;
+
+        @Column(displayName = "Group id",
+                description = "The Group ID of the Gradle project or Maven module.")
+        String groupId;
+
+        @Column(displayName = "Artifact id",
+                description = "The Artifact ID of the Gradle project or Maven module.")
+        String artifactId;
+
+        @Column(displayName = "Version",
+                description = "The version of the Gradle project or Maven module.")
+        String version;
+
+        @Column(displayName = "Resolution failure",
+                description = "The reason why the project's dependencies could not be resolved. Blank when resolution was not attempted.")
+        String resolutionFailure;
+    }
+}
@@ -65,6 +65,21 @@ public class DependencyListReport extends DataTable<DependencyListReport.Row> {
                               "depends on the dependency transitively through at least one direct dependency.")
         boolean direct;
 
+        @Column(displayName = "Depth",
+                description = "The number of dependencies between the project and the dependency, `0` for a direct dependency. " +
+                              "A dependency reachable through several paths, or in several scopes, is reported at the shallowest " +
+                              "depth it is reached at.")
+        int depth;
+
+        @Column(displayName = "Parent path",
+                description = "The dependencies through which the dependency is reached at its shallowest depth, from a direct " +
+                              "dependency to its parent, separated by ` > `. Blank for direct dependencies.")
+        String parentPath;
+
+        @Column(displayName = "Scopes",
+                description = "The scopes the dependency is in, as a sum of 1 for Compile, 2 for Runtime and 4 for TestRuntime.")
+        int scopes;
+
         @Column(displayName = "Resolution failure",
                 description = "The reason why the dependency could not be resolved. Blank when resolution was not attempted.")
         String resolutionFailure;
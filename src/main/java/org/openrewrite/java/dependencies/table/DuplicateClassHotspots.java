@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class DuplicateClassHotspots extends DataTable<DuplicateClassHotspots.Row> {
+    public DuplicateClassHotspots(Recipe recipe) {
+        super(recipe,
+                "Duplicate class hotspots",
+                "Pairs of dependencies containing the same classes across all projects, those affecting the most projects first");
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Dependency 1",
+                description = "The first dependency of the pair (group:artifact:version).")
+        String dependency1;
+
+        @Column(displayName = "Dependency 2",
+                description = "The second dependency of the pair (group:artifact:version).")
+        String dependency2;
+
+        @Column(displayName = "Projects",
+                description = "The number of projects with both dependencies on a classpath.")
+        int projects;
+
+        @Column(displayName = "Projects error",
+                description = "The most by which the number of projects may be overcounted, because the pair was only tracked " +
+                              "once the limit on tracked pairs had been reached. Zero when the number of projects is exact.")
+        int projectsError;
+
+        @Column(displayName = "Duplicate classes",
+                description = "The largest number of classes the two dependencies have in common on any one classpath.")
+        int duplicateClasses;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class DuplicateClassesSummary extends DataTable<DuplicateClassesSummary.Row> {
+    public DuplicateClassesSummary(Recipe recipe) {
+        super(recipe,
+                "Duplicate classes summary",
+                "Summarizes duplicate classes on the classpath by the set of dependencies containing them");
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Project name",
+                description = "The project containing the duplicates.")
+        String projectName;
+
+        @Column(displayName = "Source set",
+                description = "The source set containing the duplicates (e.g., main, test).")
+        String sourceSet;
+
+        @Column(displayName = "Dependencies",
+                description = "The dependencies that all contain the duplicate classes (group:artifact:version), comma-separated.")
+        String dependencies;
+
+        @Column(displayName = "Duplicate classes",
+                description = "The number of classes found in every one of the dependencies.")
+        int duplicateClasses;
+
+        @Column(displayName = "Sample type names",
+                description = "The first few duplicate classes by fully qualified name, comma-separated.")
+        String sampleTypeNames;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ModuleDependencyMatrix extends DataTable<ModuleDependencyMatrix.Row> {
+    public ModuleDependencyMatrix(Recipe recipe) {
+        super(recipe,
+                "Module dependency matrix",
+                "Whether each module has a dependency matching each of the requested dependency patterns");
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Project name",
+                description = "The name of the module.")
+        String projectName;
+
+        @Column(displayName = "Dependency pattern",
+                description = "The dependency pattern, as given to the recipe.")
+        String dependencyPattern;
+
+        @Column(displayName = "Has dependency",
+                description = "Whether the module has a dependency matching the pattern.")
+        boolean hasDependency;
+    }
+}
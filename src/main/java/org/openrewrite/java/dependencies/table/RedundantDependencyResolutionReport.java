@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class RedundantDependencyResolutionReport extends DataTable<RedundantDependencyResolutionReport.Row> {
+    public RedundantDependencyResolutionReport(Recipe recipe) {
+        super(recipe,
+                "Redundant dependency resolution",
+                "Records how the transitive dependencies of each matching parent dependency were determined.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Project",
+                description = "The group and artifact of the Gradle project or Maven module declaring the parent dependency.")
+        String project;
+
+        @Column(displayName = "Scope",
+                description = "The Maven scope or Gradle configuration the parent dependency was found in.")
+        String scope;
+
+        @Column(displayName = "Parent dependency",
+                description = "The parent dependency (group:artifact:version) whose transitive dependencies were determined.")
+        String parentDependency;
+
+        @Column(displayName = "Source",
+                description = "Where the transitive dependencies were taken from: the project's resolved dependency tree, " +
+                              "an independent resolution of the parent dependency's POM, or a closure cached by an " +
+                              "earlier resolution of that POM.")
+        String source;
+    }
+}
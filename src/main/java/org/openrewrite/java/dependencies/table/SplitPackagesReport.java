@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class SplitPackagesReport extends DataTable<SplitPackagesReport.Row> {
+    public SplitPackagesReport(Recipe recipe) {
+        super(recipe,
+                "Split packages report",
+                "Lists packages whose classes are spread over multiple dependencies on the classpath");
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Project name",
+                description = "The project containing the split package.")
+        String projectName;
+
+        @Column(displayName = "Source set",
+                description = "The source set containing the split package (e.g., main, test).")
+        String sourceSet;
+
+        @Column(displayName = "Package name",
+                description = "The name of the split package.")
+        String packageName;
+
+        @Column(displayName = "Dependencies",
+                description = "The dependencies containing classes in the package (group:artifact:version), comma-separated.")
+        String dependencies;
+    }
+}
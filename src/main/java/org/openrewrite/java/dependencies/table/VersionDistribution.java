@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class VersionDistribution extends DataTable<VersionDistribution.Row> {
+    public VersionDistribution(Recipe recipe) {
+        super(recipe,
+                "Version distribution",
+                "The number of projects using each version of a dependency");
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Group",
+                description = "The first part of a dependency coordinate `com.google.guava:guava:VERSION`.")
+        String groupId;
+
+        @Column(displayName = "Artifact",
+                description = "The second part of a dependency coordinate `com.google.guava:guava:VERSION`.")
+        String artifactId;
+
+        @Column(displayName = "Version",
+                description = "The version in use, or `(other)` for the versions in use beyond the bound of the distribution.")
+        String version;
+
+        @Column(displayName = "Projects",
+                description = "The number of projects using the version.")
+        long projects;
+
+        @Column(displayName = "Median version",
+                description = "The version used by the median project, across all versions of the dependency.")
+        @Nullable
+        String medianVersion;
+
+        @Column(displayName = "90th percentile version",
+                description = "The lowest version at or below which 90% of the projects using the dependency are.")
+        @Nullable
+        String p90Version;
+    }
+}
@@ -16,16 +16,24 @@
 package org.openrewrite.java.dependencies;
 
 import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.dependencies.table.DependencyGraphEdges;
+import org.openrewrite.java.dependencies.table.DependencyGraphNodes;
+import org.openrewrite.java.dependencies.table.DependencyGraphProjects;
 import org.openrewrite.java.dependencies.table.DependencyListReport;
+import org.openrewrite.maven.MavenExecutionContextView;
 import org.openrewrite.maven.tree.*;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.SourceSpecs;
 
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.openrewrite.Tree.randomId;
 import static org.openrewrite.gradle.Assertions.buildGradle;
 import static org.openrewrite.gradle.Assertions.settingsGradle;
@@ -38,7 +46,7 @@ class DependencyListTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new DependencyList(DependencyList.Scope.Compile, true, false));
+        spec.recipe(new DependencyList(DependencyList.Scope.Compile, true, false, null));
     }
 
     @Test
@@ -91,13 +99,13 @@ class DependencyListTest implements RewriteTest {
     @Test
     void directOnly() {
         rewriteRun(
-          spec -> spec.recipe(new DependencyList(DependencyList.Scope.Compile, false, false))
+          spec -> spec.recipe(new DependencyList(DependencyList.Scope.Compile, false, false, null))
             .beforeRecipe(withToolingApi())
             .dataTable(DependencyListReport.Row.class, rows -> {
                 assertThat(rows)
                   .containsExactlyInAnyOrder(
-                    new DependencyListReport.Row("Gradle", "com.test", "test", "1.0.0", "io.micrometer.prometheus", "prometheus-rsocket-client", "1.5.3", true, ""),
-                    new DependencyListReport.Row("Maven", "com.test", "test", "1.0.0", "io.micrometer.prometheus", "prometheus-rsocket-client", "1.5.3", true, ""));
+                    new DependencyListReport.Row("Gradle", "com.test", "test", "1.0.0", "io.micrometer.prometheus", "prometheus-rsocket-client", "1.5.3", true, 0, "", 1, ""),
+                    new DependencyListReport.Row("Maven", "com.test", "test", "1.0.0", "io.micrometer.prometheus", "prometheus-rsocket-client", "1.5.3", true, 0, "", 1, ""));
             }),
           settingsGradle("rootProject.name = 'test'"),
           buildGradle(
@@ -136,10 +144,168 @@ class DependencyListTest implements RewriteTest {
         );
     }
 
+    @Test
+    void transitiveDepthAndParentPath() {
+        rewriteRun(
+          spec -> spec.dataTable(DependencyListReport.Row.class, rows -> {
+              assertThat(rows)
+                .filteredOn(it -> "guava".equals(it.getDependencyArtifactId()))
+                .singleElement()
+                .matches(it -> it.isDirect() && it.getDepth() == 0 && it.getParentPath().isEmpty());
+              assertThat(rows)
+                .filteredOn(it -> "failureaccess".equals(it.getDependencyArtifactId()))
+                .singleElement()
+                .matches(it -> !it.isDirect() && it.getDepth() == 1 &&
+                               "com.google.guava:guava:29.0-jre".equals(it.getParentPath()));
+          }),
+          //language=xml
+          pomXml(
+            """
+              <project>
+                <groupId>com.mycompany.app</groupId>
+                <artifactId>my-app</artifactId>
+                <version>1</version>
+                <dependencies>
+                  <dependency>
+                      <groupId>com.google.guava</groupId>
+                      <artifactId>guava</artifactId>
+                      <version>29.0-jre</version>
+                  </dependency>
+                </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void allScopes() {
+        rewriteRun(
+          spec -> spec.recipe(new DependencyList(DependencyList.Scope.All, true, false, null))
+            .dataTable(DependencyListReport.Row.class, rows -> {
+                assertThat(rows)
+                  .filteredOn(it -> "guava".equals(it.getDependencyArtifactId()))
+                  .singleElement()
+                  .matches(it -> it.getScopes() == 7);
+                assertThat(rows)
+                  .filteredOn(it -> "junit".equals(it.getDependencyArtifactId()))
+                  .singleElement()
+                  .matches(it -> it.isDirect() && it.getScopes() == 4);
+                assertThat(rows)
+                  .filteredOn(it -> "hamcrest-core".equals(it.getDependencyArtifactId()))
+                  .singleElement()
+                  .matches(it -> it.getDepth() == 1 && it.getScopes() == 4);
+            }),
+          //language=xml
+          pomXml(
+            """
+              <project>
+                <groupId>com.mycompany.app</groupId>
+                <artifactId>my-app</artifactId>
+                <version>1</version>
+                <dependencies>
+                  <dependency>
+                      <groupId>com.google.guava</groupId>
+                      <artifactId>guava</artifactId>
+                      <version>29.0-jre</version>
+                  </dependency>
+                  <dependency>
+                      <groupId>junit</groupId>
+                      <artifactId>junit</artifactId>
+                      <version>4.13.2</version>
+                      <scope>test</scope>
+                  </dependency>
+                </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void allScopesReportsShallowestDepth() {
+        rewriteRun(
+          spec -> spec.recipe(new DependencyList(DependencyList.Scope.All, true, false, null))
+            .dataTable(DependencyListReport.Row.class, rows -> assertThat(rows)
+              .filteredOn(it -> "failureaccess".equals(it.getDependencyArtifactId()))
+              .singleElement()
+              .matches(it -> it.isDirect() && it.getDepth() == 0 && it.getParentPath().isEmpty() && it.getScopes() == 7)),
+          //language=xml
+          pomXml(
+            """
+              <project>
+                <groupId>com.mycompany.app</groupId>
+                <artifactId>my-app</artifactId>
+                <version>1</version>
+                <dependencies>
+                  <dependency>
+                      <groupId>com.google.guava</groupId>
+                      <artifactId>guava</artifactId>
+                      <version>29.0-jre</version>
+                  </dependency>
+                  <dependency>
+                      <groupId>com.google.guava</groupId>
+                      <artifactId>failureaccess</artifactId>
+                      <version>1.0.1</version>
+                      <scope>test</scope>
+                  </dependency>
+                </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void allScopeIsExpandedToSingleScopes() {
+        assertThat(DependencyList.Scope.All.expand())
+          .extracting(DependencyList.Scope::asMavenScope)
+          .containsExactly(Scope.Compile, Scope.Runtime, Scope.Test);
+        assertThat(DependencyList.Scope.All.expand())
+          .extracting(DependencyList.Scope::asGradleConfigurationName)
+          .containsExactly("compileClasspath", "runtimeClasspath", "testRuntimeClasspath");
+        assertThatThrownBy(DependencyList.Scope.All::asMavenScope).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(DependencyList.Scope.All::asGradleConfigurationName).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void normalized() {
+        rewriteRun(
+          spec -> spec.recipe(new DependencyList(DependencyList.Scope.Compile, true, false, true))
+            .dataTable(DependencyGraphProjects.Row.class, rows -> assertThat(rows)
+              .containsExactly(new DependencyGraphProjects.Row(0, "Maven", "com.mycompany.app", "my-app", "1", "")))
+            .dataTable(DependencyGraphNodes.Row.class, rows -> assertThat(rows)
+              .startsWith(new DependencyGraphNodes.Row(0, "com.google.guava", "guava", "29.0-jre"))
+              .contains(new DependencyGraphNodes.Row(1, "com.google.guava", "failureaccess", "1.0.1")))
+            .dataTable(DependencyGraphEdges.Row.class, rows -> assertThat(rows)
+              .startsWith(
+                new DependencyGraphEdges.Row(0, null, 0, 1),
+                new DependencyGraphEdges.Row(0, 0, 1, 1))
+              .doesNotHaveDuplicates()),
+          //language=xml
+          pomXml(
+            """
+              <project>
+                <groupId>com.mycompany.app</groupId>
+                <artifactId>my-app</artifactId>
+                <version>1</version>
+                <dependencies>
+                  <dependency>
+                      <groupId>com.google.guava</groupId>
+                      <artifactId>guava</artifactId>
+                      <version>29.0-jre</version>
+                  </dependency>
+                </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
     @Test
     void validateResolvable() {
         rewriteRun(
-          spec -> spec.recipe(new DependencyList(DependencyList.Scope.Compile, false, true))
+          spec -> spec.recipe(new DependencyList(DependencyList.Scope.Compile, false, true, null))
             .dataTable(DependencyListReport.Row.class, rows -> assertThat(rows)
               .singleElement()
               .extracting(DependencyListReport.Row::getResolutionFailure)
@@ -194,4 +360,76 @@ class DependencyListTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void validateProjectsWithSameRepositoriesOnce() {
+        var metadataDownloads = new AtomicInteger();
+        var ctx = new InMemoryExecutionContext();
+        MavenExecutionContextView.view(ctx).setResolutionListener(new ResolutionEventListener() {
+            @Override
+            public void downloadMetadata(GroupArtifactVersion gav) {
+                metadataDownloads.incrementAndGet();
+            }
+        });
+        rewriteRun(
+          spec -> spec.recipe(new DependencyList(DependencyList.Scope.Compile, false, true, null))
+            .executionContext(ctx)
+            .afterRecipe(run -> assertThat(metadataDownloads).hasValue(1))
+            .dataTable(DependencyListReport.Row.class, rows -> {
+                assertThat(rows)
+                  .extracting(DependencyListReport.Row::getDependencyArtifactId)
+                  .containsExactlyInAnyOrder("module-a-dependency", "module-b-dependency");
+                assertThat(rows)
+                  .allMatch(it -> "com.test".equals(it.getGroupId()) && "test".equals(it.getArtifactId()))
+                  .allMatch(it -> it.getResolutionFailure().startsWith("org.openrewrite.maven.MavenDownloadingException"));
+            }),
+          unresolvablePom("module-a"),
+          unresolvablePom("module-b")
+        );
+    }
+
+    /**
+     * A module of com.test:test, resolved from a repository that does not exist, that depends on an artifact named after
+     * the module so that its row can be told apart from those of other modules with the same coordinates.
+     */
+    private static SourceSpecs unresolvablePom(String module) {
+        return xml(
+          //language=xml
+          """
+            <project>
+                <groupId>com.test</groupId>
+                <artifactId>test</artifactId>
+                <version>1.0.0</version>
+            </project>
+            """,
+          spec -> {
+              MavenRepository pretendRepo = MavenRepository.builder()
+                .id("nonexistent")
+                .uri("https://nonexistent")
+                .build();
+              Dependency requested = Dependency.builder()
+                .gav(new GroupArtifactVersion("com.test", module + "-dependency", "1.0.0"))
+                .build();
+              var rgav = new ResolvedGroupArtifactVersion(pretendRepo.getId(), "com.test", module + "-dependency", "1.0.0", null);
+              spec.path(Path.of(module, "pom.xml"))
+                .markers(new MavenResolutionResult(
+                  randomId(),
+                  null,
+                  ResolvedPom.builder()
+                    .requested(Pom.builder()
+                      .gav(new ResolvedGroupArtifactVersion(pretendRepo.getId(), "com.test", "test", "1.0.0", null))
+                      .build())
+                    .repositories(List.of(pretendRepo))
+                    .build(),
+                  List.of(),
+                  null,
+                  Map.of(Scope.Compile, List.of(new ResolvedDependency(
+                    pretendRepo, rgav, requested, List.of(), List.of(), null, null, null, 0, null))),
+                  null,
+                  List.of(),
+                  Map.of()
+                ));
+          }
+        );
+    }
 }
@@ -16,9 +16,18 @@
 package org.openrewrite.java.dependencies;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.dependencies.internal.DependencyClosureCache;
+import org.openrewrite.java.dependencies.table.RedundantDependencyResolutionReport;
 import org.openrewrite.test.RewriteTest;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.openrewrite.gradle.Assertions.buildGradle;
 import static org.openrewrite.gradle.toolingapi.Assertions.withToolingApi;
 import static org.openrewrite.java.Assertions.mavenProject;
@@ -347,4 +356,291 @@ class RemoveRedundantDependenciesTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void cachesClosuresOnlyWhenEnabled(@TempDir Path cacheDirectory) {
+        var ctx = new InMemoryExecutionContext();
+        ctx.putMessage(DependencyClosureCache.CONTEXT_KEY,
+          new DependencyClosureCache(cacheDirectory, DependencyClosureCache.DEFAULT_MAX_SIZE_BYTES));
+        rewriteRun(
+          spec -> spec.beforeRecipe(withToolingApi())
+            .executionContext(ctx)
+            .recipe(new RemoveRedundantDependencies(
+              "com.fasterxml.jackson.core", "jackson-databind")),
+          mavenProject("my-app",
+            //language=groovy
+            buildGradle(
+              """
+                plugins {
+                    id 'java-library'
+                }
+                repositories {
+                    mavenCentral()
+                }
+                dependencies {
+                    implementation 'com.fasterxml.jackson.core:jackson-databind:2.17.0'
+                    implementation 'com.fasterxml.jackson.core:jackson-core:2.17.0'
+                }
+                """,
+              """
+                plugins {
+                    id 'java-library'
+                }
+                repositories {
+                    mavenCentral()
+                }
+                dependencies {
+                    implementation 'com.fasterxml.jackson.core:jackson-databind:2.17.0'
+                }
+                """
+            )
+          )
+        );
+        assertThat(cacheDirectory).isNotEmptyDirectory();
+    }
+
+    @Test
+    void resolveSeveralParentsConcurrently() {
+        rewriteRun(
+          spec -> spec.beforeRecipe(withToolingApi())
+            .recipe(new RemoveRedundantDependencies(
+              "com.fasterxml.jackson.*", "jackson-data*")),
+          mavenProject("my-app",
+            //language=groovy
+            buildGradle(
+              """
+                plugins {
+                    id 'java-library'
+                }
+                repositories {
+                    mavenCentral()
+                }
+                dependencies {
+                    implementation 'com.fasterxml.jackson.core:jackson-databind:2.17.0'
+                    implementation 'com.fasterxml.jackson.datatype:jackson-datatype-jdk8:2.17.0'
+                    implementation 'com.fasterxml.jackson.core:jackson-core:2.17.0'
+                    implementation 'com.fasterxml.jackson.core:jackson-annotations:2.17.0'
+                }
+                """,
+              """
+                plugins {
+                    id 'java-library'
+                }
+                repositories {
+                    mavenCentral()
+                }
+                dependencies {
+                    implementation 'com.fasterxml.jackson.core:jackson-databind:2.17.0'
+                    implementation 'com.fasterxml.jackson.datatype:jackson-datatype-jdk8:2.17.0'
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void reportResolutionFailuresOtherThanDownloads() {
+        var acc = new RemoveRedundantDependencies.Accumulator();
+        var failure = new IllegalStateException("Unexpected resolution failure");
+        acc.pending.add(new RemoveRedundantDependencies.PendingResolution(
+          false, "com.mycompany.app:my-app", "compile", CompletableFuture.failedFuture(failure)));
+
+        assertThatThrownBy(acc::awaitResolutions).isSameAs(failure);
+        assertThat(acc.pending).isEmpty();
+    }
+
+    @Test
+    void transitivesFromResolvedTree() {
+        rewriteRun(
+          spec -> spec.recipe(new RemoveRedundantDependencies("org.jetbrains.kotlin", "kotlin-stdlib-jdk8"))
+            .dataTable(RedundantDependencyResolutionReport.Row.class, rows -> assertThat(rows)
+              .filteredOn(row -> "compile".equals(row.getScope()))
+              .singleElement()
+              .matches(row -> "com.mycompany.app:my-app".equals(row.getProject()) &&
+                              row.getParentDependency().contains("kotlin-stdlib-jdk8") &&
+                              "Resolved dependency tree".equals(row.getSource()))),
+          mavenProject("my-app",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.jetbrains.kotlin</groupId>
+                      <artifactId>kotlin-stdlib-jdk8</artifactId>
+                      <version>1.9.10</version>
+                    </dependency>
+                    <dependency>
+                      <groupId>org.jetbrains.kotlin</groupId>
+                      <artifactId>kotlin-stdlib</artifactId>
+                      <version>1.9.10</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.jetbrains.kotlin</groupId>
+                      <artifactId>kotlin-stdlib-jdk8</artifactId>
+                      <version>1.9.10</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void downloadPomWhenResolvedVersionDiffersFromRequested() {
+        rewriteRun(
+          spec -> spec.recipe(new RemoveRedundantDependencies("org.jetbrains.kotlin", "kotlin-stdlib-jdk8"))
+            .dataTable(RedundantDependencyResolutionReport.Row.class, rows -> assertThat(rows)
+              .isNotEmpty()
+              .allMatch(row -> "Downloaded POM".equals(row.getSource()))),
+          mavenProject("my-app",
+            // The project's own kotlin-stdlib wins over the one kotlin-stdlib-jdk8 requests
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.jetbrains.kotlin</groupId>
+                      <artifactId>kotlin-stdlib-jdk8</artifactId>
+                      <version>1.9.10</version>
+                    </dependency>
+                    <dependency>
+                      <groupId>org.jetbrains.kotlin</groupId>
+                      <artifactId>kotlin-stdlib</artifactId>
+                      <version>1.9.0</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void downloadPomWhenTransitiveIsManaged() {
+        rewriteRun(
+          spec -> spec.recipe(new RemoveRedundantDependencies("org.jetbrains.kotlin", "kotlin-stdlib-jdk8"))
+            .dataTable(RedundantDependencyResolutionReport.Row.class, rows -> assertThat(rows)
+              .isNotEmpty()
+              .allMatch(row -> "Downloaded POM".equals(row.getSource()))),
+          mavenProject("my-app",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <dependencyManagement>
+                    <dependencies>
+                      <dependency>
+                        <groupId>org.jetbrains.kotlin</groupId>
+                        <artifactId>kotlin-stdlib</artifactId>
+                        <version>1.9.10</version>
+                      </dependency>
+                    </dependencies>
+                  </dependencyManagement>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.jetbrains.kotlin</groupId>
+                      <artifactId>kotlin-stdlib-jdk8</artifactId>
+                      <version>1.9.10</version>
+                    </dependency>
+                    <dependency>
+                      <groupId>org.jetbrains.kotlin</groupId>
+                      <artifactId>kotlin-stdlib</artifactId>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <dependencyManagement>
+                    <dependencies>
+                      <dependency>
+                        <groupId>org.jetbrains.kotlin</groupId>
+                        <artifactId>kotlin-stdlib</artifactId>
+                        <version>1.9.10</version>
+                      </dependency>
+                    </dependencies>
+                  </dependencyManagement>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.jetbrains.kotlin</groupId>
+                      <artifactId>kotlin-stdlib-jdk8</artifactId>
+                      <version>1.9.10</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void removeMultipleRedundantGradleDependencies() {
+        rewriteRun(
+          spec -> spec.beforeRecipe(withToolingApi())
+            .recipe(new RemoveRedundantDependencies(
+              "com.fasterxml.jackson.core", "jackson-databind")),
+          mavenProject("my-app",
+            //language=groovy
+            buildGradle(
+              """
+                plugins {
+                    id 'java-library'
+                }
+                repositories {
+                    mavenCentral()
+                }
+                dependencies {
+                    implementation 'com.fasterxml.jackson.core:jackson-databind:2.17.0'
+                    implementation 'com.fasterxml.jackson.core:jackson-core:2.17.0'
+                    implementation 'com.fasterxml.jackson.core:jackson-annotations:2.17.0'
+                }
+                """,
+              """
+                plugins {
+                    id 'java-library'
+                }
+                repositories {
+                    mavenCentral()
+                }
+                dependencies {
+                    implementation 'com.fasterxml.jackson.core:jackson-databind:2.17.0'
+                }
+                """
+            )
+          )
+        );
+    }
 }
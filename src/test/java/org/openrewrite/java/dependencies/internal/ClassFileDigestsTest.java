@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassFileDigestsTest {
+
+    @TempDir
+    Path localRepository;
+
+    @Test
+    void identicalClassesHaveEqualDigests() throws IOException {
+        jar("com.example", "original", "1.0", Map.of("com/example/Shared.class", "shared", "com/example/Changed.class", "v1"));
+        jar("com.example", "repackaged", "1.0", Map.of("com/example/Shared.class", "shared", "com/example/Changed.class", "v2"));
+
+        Map<String, Map<String, String>> digests = new ClassFileDigests(localRepository).digests(Map.of(
+          "com.example:original:1.0", List.of("com.example.Shared", "com.example.Changed"),
+          "com.example:repackaged:1.0", List.of("com.example.Shared", "com.example.Changed")
+        ));
+
+        Map<String, String> original = digests.get("com.example:original:1.0");
+        Map<String, String> repackaged = digests.get("com.example:repackaged:1.0");
+        assertThat(original.get("com.example.Shared")).isEqualTo(repackaged.get("com.example.Shared"));
+        assertThat(original.get("com.example.Changed")).isNotEqualTo(repackaged.get("com.example.Changed"));
+    }
+
+    @Test
+    void missingJarsAndEntriesHaveNoDigest() throws IOException {
+        jar("com.example", "original", "1.0", Map.of("com/example/Shared.class", "shared"));
+
+        Map<String, Map<String, String>> digests = new ClassFileDigests(localRepository).digests(Map.of(
+          "com.example:original:1.0", List.of("com.example.Missing"),
+          "com.example:absent:1.0", List.of("com.example.Shared")
+        ));
+
+        assertThat(digests.get("com.example:original:1.0")).isEmpty();
+        assertThat(digests.get("com.example:absent:1.0")).isEmpty();
+    }
+
+    private void jar(String groupId, String artifactId, String version, Map<String, String> entries) throws IOException {
+        Path dir = localRepository.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version);
+        Files.createDirectories(dir);
+        try (OutputStream out = Files.newOutputStream(dir.resolve(artifactId + "-" + version + ".jar"));
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+}
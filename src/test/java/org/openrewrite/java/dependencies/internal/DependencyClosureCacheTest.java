@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.GroupArtifactVersion;
+import org.openrewrite.maven.tree.MavenRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyClosureCacheTest {
+
+    @TempDir
+    Path directory;
+
+    Set<GroupArtifactVersion> closure = Set.of(
+      new GroupArtifactVersion("com.fasterxml.jackson.core", "jackson-core", "2.17.0"),
+      new GroupArtifactVersion("com.fasterxml.jackson.core", "jackson-annotations", "2.17.0")
+    );
+
+    @Test
+    void roundTrip() {
+        var cache = new DependencyClosureCache(directory, DependencyClosureCache.DEFAULT_MAX_SIZE_BYTES);
+        String key = cache.key(gav("2.17.0"), List.of(), List.of(MavenRepository.MAVEN_CENTRAL));
+
+        assertThat(cache.get(key)).isNull();
+        cache.put(key, closure);
+        assertThat(cache.get(key)).isEqualTo(closure);
+    }
+
+    @Test
+    void roundTripMissingVersion() {
+        var cache = new DependencyClosureCache(directory, DependencyClosureCache.DEFAULT_MAX_SIZE_BYTES);
+        String key = cache.key(gav("2.17.0"), List.of(), List.of(MavenRepository.MAVEN_CENTRAL));
+        Set<GroupArtifactVersion> withMissingVersion = Set.of(
+          new GroupArtifactVersion("com.fasterxml.jackson.core", "jackson-core", null),
+          new GroupArtifactVersion("com.fasterxml.jackson.core", "jackson-annotations", "null"));
+
+        cache.put(key, withMissingVersion);
+        assertThat(cache.get(key)).isEqualTo(withMissingVersion);
+    }
+
+    @Test
+    void keyDependsOnExclusionsAndRepositories() {
+        var cache = new DependencyClosureCache(directory, DependencyClosureCache.DEFAULT_MAX_SIZE_BYTES);
+        String key = cache.key(gav("2.17.0"), List.of(), List.of(MavenRepository.MAVEN_CENTRAL));
+
+        assertThat(cache.key(gav("2.17.0"), List.of(), List.of(MavenRepository.MAVEN_CENTRAL))).isEqualTo(key);
+        assertThat(cache.key(gav("2.17.0"), List.of(new GroupArtifact("com.fasterxml.jackson.core", "jackson-core")),
+          List.of(MavenRepository.MAVEN_CENTRAL))).isNotEqualTo(key);
+        assertThat(cache.key(gav("2.17.0"), List.of(), List.of())).isNotEqualTo(key);
+        assertThat(cache.key(gav("2.17.1"), List.of(), List.of(MavenRepository.MAVEN_CENTRAL))).isNotEqualTo(key);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        var unbounded = new DependencyClosureCache(directory, DependencyClosureCache.DEFAULT_MAX_SIZE_BYTES);
+        String oldest = unbounded.key(gav("2.15.0"), List.of(), List.of());
+        String newer = unbounded.key(gav("2.16.0"), List.of(), List.of());
+        unbounded.put(oldest, closure);
+        unbounded.put(newer, closure);
+        Files.setLastModifiedTime(directory.resolve(oldest), FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(directory.resolve(newer), FileTime.fromMillis(2_000));
+
+        // Room for two entries, so adding a third evicts the least recently used one
+        long entrySize = Files.size(directory.resolve(oldest));
+        var cache = new DependencyClosureCache(directory, entrySize * 2);
+        String newest = cache.key(gav("2.17.0"), List.of(), List.of());
+        cache.put(newest, closure);
+
+        assertThat(cache.get(oldest)).isNull();
+        assertThat(cache.get(newer)).isEqualTo(closure);
+        assertThat(cache.get(newest)).isEqualTo(closure);
+    }
+
+    @Test
+    void onlyReleasesAreCacheable() {
+        assertThat(DependencyClosureCache.isCacheable("2.17.0")).isTrue();
+        assertThat(DependencyClosureCache.isCacheable("2.17.0-SNAPSHOT")).isFalse();
+        assertThat(DependencyClosureCache.isCacheable("latest.release")).isFalse();
+        assertThat(DependencyClosureCache.isCacheable("[2.0,3.0)")).isFalse();
+        assertThat(DependencyClosureCache.isCacheable("2.+")).isFalse();
+        assertThat(DependencyClosureCache.isCacheable("${jackson.version}")).isFalse();
+    }
+
+    private static GroupArtifactVersion gav(String version) {
+        return new GroupArtifactVersion("com.fasterxml.jackson.core", "jackson-databind", version);
+    }
+}
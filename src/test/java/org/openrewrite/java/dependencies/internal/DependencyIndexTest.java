@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyIndexTest {
+
+    @Test
+    void indexesDirectAndTransitiveDependenciesByScope() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        MavenResolutionResult maven = parse(ctx);
+
+        DependencyIndex index = DependencyIndex.get(ctx, maven);
+
+        assertThat(index.getOccurrences(new GroupArtifact("com.google.guava", "guava")))
+          .extracting(DependencyIndex.Occurrence::getConfiguration)
+          .contains("compile", "runtime");
+        assertThat(index.getOccurrences(new GroupArtifact("com.google.guava", "guava")))
+          .allMatch(DependencyIndex.Occurrence::isDirect);
+        assertThat(index.getOccurrences(new GroupArtifact("com.google.guava", "failureaccess")))
+          .isNotEmpty()
+          .noneMatch(DependencyIndex.Occurrence::isDirect);
+        assertThat(index.find("com.google.*", "*"))
+          .extracting(o -> o.getDependency().getArtifactId())
+          .contains("guava", "failureaccess");
+        assertThat(index.find("org.example", "missing")).isEmpty();
+    }
+
+    @Test
+    void builtOncePerMarker() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        MavenResolutionResult maven = parse(ctx);
+
+        assertThat(DependencyIndex.get(ctx, maven)).isSameAs(DependencyIndex.get(ctx, maven));
+        assertThat(DependencyIndex.get(new InMemoryExecutionContext(), maven)).isNotSameAs(DependencyIndex.get(ctx, maven));
+    }
+
+    private static MavenResolutionResult parse(ExecutionContext ctx) {
+        //language=xml
+        String pom = """
+          <project>
+            <groupId>com.mycompany.app</groupId>
+            <artifactId>my-app</artifactId>
+            <version>1</version>
+            <dependencies>
+              <dependency>
+                <groupId>com.google.guava</groupId>
+                <artifactId>guava</artifactId>
+                <version>29.0-jre</version>
+              </dependency>
+            </dependencies>
+          </project>
+          """;
+        return MavenParser.builder().build().parse(ctx, pom)
+          .findFirst()
+          .orElseThrow()
+          .getMarkers()
+          .findFirst(MavenResolutionResult.class)
+          .orElseThrow();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.dependencies.internal.DuplicateClassFinder.DuplicateClass;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicateClassFinderTest {
+
+    @Test
+    void findsTypesInMoreThanOneGav() {
+        Map<String, List<JavaType.FullyQualified>> gavToTypes = new LinkedHashMap<>();
+        gavToTypes.put("ch.qos.logback:logback-classic:1.2.13", types("org.slf4j.impl.StaticLoggerBinder", "ch.qos.logback.classic.Logger"));
+        gavToTypes.put("org.slf4j:slf4j-nop:1.7.36", types("org.slf4j.impl.StaticMDCBinder", "org.slf4j.impl.StaticLoggerBinder"));
+        gavToTypes.put("org.slf4j:slf4j-simple:1.7.36", types("org.slf4j.impl.StaticMDCBinder", "org.slf4j.impl.StaticLoggerBinder"));
+
+        assertThat(DuplicateClassFinder.find(gavToTypes).getDuplicateClasses()).containsExactly(
+          new DuplicateClass("org.slf4j.impl.StaticLoggerBinder",
+            List.of("ch.qos.logback:logback-classic:1.2.13", "org.slf4j:slf4j-nop:1.7.36", "org.slf4j:slf4j-simple:1.7.36")),
+          new DuplicateClass("org.slf4j.impl.StaticMDCBinder",
+            List.of("org.slf4j:slf4j-nop:1.7.36", "org.slf4j:slf4j-simple:1.7.36"))
+        );
+    }
+
+    @Test
+    void summarizesBySetOfGavs() {
+        List<String> nopAndSimple = List.of("org.slf4j:slf4j-nop:1.7.36", "org.slf4j:slf4j-simple:1.7.36");
+        List<DuplicateClass> duplicates = List.of(
+          new DuplicateClass("org.slf4j.impl.StaticLoggerBinder", nopAndSimple),
+          new DuplicateClass("org.slf4j.impl.StaticMDCBinder", nopAndSimple),
+          new DuplicateClass("org.slf4j.impl.StaticMarkerBinder", nopAndSimple),
+          new DuplicateClass("org.objectweb.asm.ClassReader", List.of("org.ow2.asm:asm:9.6", "org.ow2.asm:asm:9.7"))
+        );
+
+        assertThat(DuplicateClassFinder.summarize(duplicates, 2)).containsExactly(
+          new DuplicateClassFinder.DuplicateSet(nopAndSimple, 3,
+            List.of("org.slf4j.impl.StaticLoggerBinder", "org.slf4j.impl.StaticMDCBinder")),
+          new DuplicateClassFinder.DuplicateSet(List.of("org.ow2.asm:asm:9.6", "org.ow2.asm:asm:9.7"), 1,
+            List.of("org.objectweb.asm.ClassReader"))
+        );
+    }
+
+    @Test
+    void findsSplitPackages() {
+        Map<String, List<JavaType.FullyQualified>> gavToTypes = new LinkedHashMap<>();
+        gavToTypes.put("javax.annotation:jsr250-api:1.0", types("javax.annotation.PostConstruct", "javax.annotation.Resource"));
+        gavToTypes.put("com.google.code.findbugs:jsr305:3.0.2", types("javax.annotation.Nonnull", "javax.annotation.concurrent.Immutable"));
+        gavToTypes.put("com.google.guava:guava:33.0.0-jre", types("com.google.common.base.Strings"));
+
+        DuplicateClassFinder.Result result = DuplicateClassFinder.find(gavToTypes);
+        assertThat(result.getSplitPackages()).containsExactly(
+          new DuplicateClassFinder.SplitPackage("javax.annotation",
+            List.of("javax.annotation:jsr250-api:1.0", "com.google.code.findbugs:jsr305:3.0.2"))
+        );
+        assertThat(result.getDuplicateClasses()).isEmpty();
+    }
+
+    @Test
+    void ignoresModuleInfoAndRepeatsWithinOneGav() {
+        Map<String, List<JavaType.FullyQualified>> gavToTypes = new LinkedHashMap<>();
+        gavToTypes.put("com.google.guava:guava:33.0.0-jre", types("module-info", "com.google.common.base.Strings", "com.google.common.base.Strings"));
+        gavToTypes.put("com.google.guava:failureaccess:1.0.2", types("module-info", "com.google.common.util.concurrent.internal.InternalFutures"));
+
+        DuplicateClassFinder.Result result = DuplicateClassFinder.find(gavToTypes);
+        assertThat(result.getDuplicateClasses()).isEmpty();
+        assertThat(result.getSplitPackages()).isEmpty();
+    }
+
+    @Test
+    void largeClasspathsGiveTheSameOrderedResult() {
+        Map<String, List<JavaType.FullyQualified>> gavToTypes = new LinkedHashMap<>();
+        gavToTypes.put("com.example:first:1.0", IntStream.range(0, 40_000)
+          .<JavaType.FullyQualified>mapToObj(i -> JavaType.ShallowClass.build("com.example.Type" + i)).toList());
+        gavToTypes.put("com.example:second:1.0", IntStream.range(39_990, 80_000)
+          .<JavaType.FullyQualified>mapToObj(i -> JavaType.ShallowClass.build("com.example.Type" + i)).toList());
+
+        List<DuplicateClass> duplicates = DuplicateClassFinder.find(gavToTypes).getDuplicateClasses();
+        assertThat(duplicates).hasSize(10)
+          .isSortedAccordingTo(Comparator.comparing(DuplicateClass::getTypeName))
+          .allSatisfy(d -> assertThat(d.getGavs()).containsExactly("com.example:first:1.0", "com.example:second:1.0"));
+        assertThat(DuplicateClassFinder.find(gavToTypes).getDuplicateClasses()).isEqualTo(duplicates);
+    }
+
+    private static List<JavaType.FullyQualified> types(String... typeNames) {
+        return Arrays.stream(typeNames)
+          .<JavaType.FullyQualified>map(JavaType.ShallowClass::build)
+          .toList();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.dependencies.internal.DuplicateClassFinder.DuplicateClass;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicateClassPairsTest {
+
+    @Test
+    void countsProjectsAndClassesPerPair() {
+        var pairs = new DuplicateClassPairs(100);
+        Map<Long, Integer> slf4j = pairs.countPairs(List.of(
+          new DuplicateClass("org.slf4j.impl.StaticLoggerBinder", List.of("ch.qos.logback:logback-classic:1.2.13", "org.slf4j:slf4j-nop:1.7.36")),
+          new DuplicateClass("org.slf4j.impl.StaticMDCBinder", List.of("ch.qos.logback:logback-classic:1.2.13", "org.slf4j:slf4j-nop:1.7.36"))
+        ));
+        Map<Long, Integer> asm = pairs.countPairs(List.of(
+          new DuplicateClass("org.objectweb.asm.ClassReader", List.of("org.ow2.asm:asm:9.6", "org.ow2.asm:asm:9.7", "org.ow2.asm:asm:9.5"))
+        ));
+
+        pairs.record("api", slf4j);
+        pairs.record("api", slf4j);
+        pairs.record("service", slf4j);
+        pairs.record("service", asm);
+
+        assertThat(pairs.getPairs()).containsExactly(
+          new DuplicateClassPairs.Pair("ch.qos.logback:logback-classic:1.2.13", "org.slf4j:slf4j-nop:1.7.36", 2, 0, 2),
+          new DuplicateClassPairs.Pair("org.ow2.asm:asm:9.6", "org.ow2.asm:asm:9.5", 1, 0, 1),
+          new DuplicateClassPairs.Pair("org.ow2.asm:asm:9.6", "org.ow2.asm:asm:9.7", 1, 0, 1),
+          new DuplicateClassPairs.Pair("org.ow2.asm:asm:9.7", "org.ow2.asm:asm:9.5", 1, 0, 1)
+        );
+    }
+
+    @Test
+    void keepsPairsFoundInManyProjectsOnceBounded() {
+        var pairs = new DuplicateClassPairs(2);
+        Map<Long, Integer> rare1 = pairs.countPairs(List.of(new DuplicateClass("a.A", List.of("g:a:1", "g:b:1"))));
+        Map<Long, Integer> rare2 = pairs.countPairs(List.of(new DuplicateClass("c.C", List.of("g:c:1", "g:d:1"))));
+        Map<Long, Integer> frequent = pairs.countPairs(List.of(new DuplicateClass("e.E", List.of("g:e:1", "g:f:1"))));
+
+        pairs.record("p1", rare1);
+        pairs.record("p2", rare2);
+        for (String project : List.of("p3", "p4", "p5")) {
+            pairs.record(project, frequent);
+        }
+
+        assertThat(pairs.getPairs()).containsExactly(
+          new DuplicateClassPairs.Pair("g:e:1", "g:f:1", 4, 1, 1),
+          new DuplicateClassPairs.Pair("g:c:1", "g:d:1", 1, 0, 1)
+        );
+    }
+}
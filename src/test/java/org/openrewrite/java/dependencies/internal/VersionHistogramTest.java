@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionHistogramTest {
+    VersionParser vp = new VersionParser();
+
+    @Test
+    void percentiles() {
+        VersionHistogram histogram = new VersionHistogram(16);
+        for (String version : new String[]{"2.15.0", "2.9.0", "2.15.0", "2.17.1", "2.15.0", "2.9.0", "2.10.0", "2.15.0", "2.17.1", "2.16.0"}) {
+            histogram.add(vp.transform(version));
+        }
+
+        assertThat(histogram.getCounts()).containsExactly(
+          Map.entry("2.9.0", 2L),
+          Map.entry("2.10.0", 1L),
+          Map.entry("2.15.0", 4L),
+          Map.entry("2.16.0", 1L),
+          Map.entry("2.17.1", 2L)
+        );
+        assertThat(histogram.percentile(0.5)).isEqualTo("2.15.0");
+        assertThat(histogram.percentile(0.9)).isEqualTo("2.17.1");
+    }
+
+    @Test
+    void boundedWithOtherVersions() {
+        VersionHistogram histogram = new VersionHistogram(2);
+        histogram.add(vp.transform("1.0.0"));
+        histogram.add(vp.transform("3.0.0"));
+        histogram.add(vp.transform("2.9.0"));
+        histogram.add(vp.transform("33.0.0-jre"));
+        histogram.add(vp.transform("3.0.0"));
+
+        assertThat(histogram.getCounts()).containsExactly(
+          Map.entry("1.0.0", 1L),
+          Map.entry("3.0.0", 2L),
+          Map.entry(VersionHistogram.OTHER_VERSIONS, 2L)
+        );
+        assertThat(histogram.percentile(0.9)).isEqualTo("3.0.0");
+    }
+
+    @Test
+    void dateVersionsAreCountedSeparately() {
+        VersionHistogram histogram = new VersionHistogram(16);
+        histogram.add(vp.transform("20240303"));
+        histogram.add(vp.transform("20231013"));
+        histogram.add(vp.transform("20240303"));
+
+        assertThat(histogram.getCounts()).containsExactly(
+          Map.entry("20231013", 1L),
+          Map.entry("20240303", 2L)
+        );
+    }
+
+    @Test
+    void qualifiersAreCountedSeparatelyInAnyOrder() {
+        VersionHistogram first = new VersionHistogram(16);
+        VersionHistogram second = new VersionHistogram(16);
+        String[] versions = {"33.0.0-jre", "33.0.0-android", "33.0.0-jre"};
+        for (int i = 0; i < versions.length; i++) {
+            first.add(vp.transform(versions[i]));
+            second.add(vp.transform(versions[versions.length - 1 - i]));
+        }
+
+        assertThat(first.getCounts())
+          .containsEntry("33.0.0-jre", 2L)
+          .containsEntry("33.0.0-android", 1L)
+          .hasSize(2);
+        assertThat(second.getCounts()).containsExactlyEntriesOf(first.getCounts());
+    }
+
+    @Test
+    void merge() {
+        VersionHistogram first = new VersionHistogram(16);
+        first.add(vp.transform("2.15.0"));
+        first.add(vp.transform("2.9.0"));
+        VersionHistogram second = new VersionHistogram(16);
+        second.add(vp.transform("2.15.0"));
+        second.add(vp.transform("2.17.1"));
+
+        first.merge(second);
+        assertThat(first.getCounts()).containsExactly(
+          Map.entry("2.9.0", 1L),
+          Map.entry("2.15.0", 2L),
+          Map.entry("2.17.1", 1L)
+        );
+    }
+}
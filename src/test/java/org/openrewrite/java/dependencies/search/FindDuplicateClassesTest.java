@@ -16,18 +16,34 @@
 package org.openrewrite.java.dependencies.search;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.SourceFile;
 import org.openrewrite.Tree;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.dependencies.table.DuplicateClassHotspots;
+import org.openrewrite.java.dependencies.table.DuplicateClassesReport;
+import org.openrewrite.java.dependencies.table.DuplicateClassesSummary;
+import org.openrewrite.java.dependencies.table.SplitPackagesReport;
 import org.openrewrite.java.marker.JavaProject;
 import org.openrewrite.java.marker.JavaSourceSet;
 import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.maven.MavenExecutionContextView;
+import org.openrewrite.maven.tree.MavenRepository;
+import org.openrewrite.test.RewriteTest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
 
 /**
  * Tests for FindDuplicateClasses recipe.
@@ -36,7 +52,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * The tests use actual JARs from the runtime classpath that have known duplicates
  * (e.g., SLF4J binding classes in logback-classic and slf4j-nop).
  */
-class FindDuplicateClassesTest {
+class FindDuplicateClassesTest implements RewriteTest {
 
     // Get JAR paths for SLF4J dependencies that have overlapping binding classes
     private static final List<Path> SLF4J_CLASSPATH = JavaParser.runtimeClasspath().stream()
@@ -128,9 +144,129 @@ class FindDuplicateClassesTest {
             .isEmpty();
     }
 
+    @Test
+    void reportsHotspotsAcrossProjects() {
+        JavaSourceSet sourceSet = JavaSourceSet.build("main", SLF4J_CLASSPATH);
+        rewriteRun(
+          spec -> spec.recipe(new FindDuplicateClasses(null, null))
+            .beforeRecipe(sources -> inSeparateProjects(sources, sourceSet))
+            .dataTable(DuplicateClassHotspots.Row.class, rows -> assertThat(rows)
+              .filteredOn(row -> isSlf4jBindingPair(row.getDependency1(), row.getDependency2()))
+              .singleElement()
+              .matches(row -> row.getProjects() == 2 && row.getProjectsError() == 0 && row.getDuplicateClasses() > 0)),
+          java("class A {}"),
+          java("class B {}")
+        );
+    }
+
+    @Test
+    void reportsEveryDuplicateWithoutComparingContents() {
+        rewriteRun(
+          spec -> spec.recipe(new FindDuplicateClasses(null, null))
+            .beforeRecipe(sources -> inSeparateProjects(sources, exampleSourceSet()))
+            .dataTable(DuplicateClassesReport.Row.class, rows -> assertThat(rows)
+              .extracting(DuplicateClassesReport.Row::getTypeName)
+              .containsExactlyInAnyOrder("com.example.Changed", "com.example.Shared")),
+          java("class A {}")
+        );
+    }
+
+    @Test
+    void reportsOnlyDuplicatesWithDifferentContents(@TempDir Path localRepository) throws IOException {
+        jar(localRepository, "original", Map.of("com/example/Shared.class", "shared", "com/example/Changed.class", "v1"));
+        jar(localRepository, "repackaged", Map.of("com/example/Shared.class", "shared", "com/example/Changed.class", "v2"));
+        var ctx = new InMemoryExecutionContext();
+        MavenExecutionContextView.view(ctx).setLocalRepository(MavenRepository.builder()
+          .id("local")
+          .uri(localRepository.toUri().toString())
+          .build());
+        rewriteRun(
+          spec -> spec.recipe(new FindDuplicateClasses(true, null))
+            .executionContext(ctx)
+            .beforeRecipe(sources -> inSeparateProjects(sources, exampleSourceSet()))
+            .dataTable(DuplicateClassesReport.Row.class, rows -> assertThat(rows)
+              .extracting(DuplicateClassesReport.Row::getTypeName)
+              .containsExactly("com.example.Changed")),
+          java("class A {}")
+        );
+    }
+
+    @Test
+    void reportsSplitPackages() {
+        rewriteRun(
+          spec -> spec.recipe(new FindDuplicateClasses(null, null))
+            .beforeRecipe(sources -> inSeparateProjects(sources, exampleSourceSet()))
+            .dataTable(SplitPackagesReport.Row.class, rows -> assertThat(rows).containsExactly(
+              new SplitPackagesReport.Row("project-0", "main", "com.example",
+                "com.example:original:1.0, com.example:repackaged:1.0"))),
+          java("class A {}")
+        );
+    }
+
+    @Test
+    void summarizesDuplicatesByDependencies() {
+        rewriteRun(
+          spec -> spec.recipe(new FindDuplicateClasses(null, true))
+            .beforeRecipe(sources -> inSeparateProjects(sources, exampleSourceSet()))
+            .dataTable(DuplicateClassesSummary.Row.class, rows -> assertThat(rows)
+              .singleElement()
+              .satisfies(row -> {
+                  assertThat(row.getProjectName()).isEqualTo("project-0");
+                  assertThat(row.getDependencies()).isEqualTo("com.example:original:1.0, com.example:repackaged:1.0");
+                  assertThat(row.getDuplicateClasses()).isEqualTo(2);
+                  assertThat(row.getSampleTypeNames().split(", "))
+                    .containsExactlyInAnyOrder("com.example.Changed", "com.example.Shared");
+              })),
+          java("class A {}")
+        );
+    }
+
+    /**
+     * Two jars of the same package, both containing {@code com.example.Shared} and {@code com.example.Changed}.
+     */
+    private static JavaSourceSet exampleSourceSet() {
+        Map<String, List<JavaType.FullyQualified>> gavToTypes = new LinkedHashMap<>();
+        for (String artifactId : List.of("original", "repackaged")) {
+            gavToTypes.put("com.example:" + artifactId + ":1.0", List.of(
+              JavaType.ShallowClass.build("com.example.Changed"),
+              JavaType.ShallowClass.build("com.example.Shared")));
+        }
+        return new JavaSourceSet(Tree.randomId(), "main", List.of(), gavToTypes);
+    }
+
+    private static void jar(Path localRepository, String artifactId, Map<String, String> entries) throws IOException {
+        Path dir = localRepository.resolve("com/example").resolve(artifactId).resolve("1.0");
+        Files.createDirectories(dir);
+        try (OutputStream out = Files.newOutputStream(dir.resolve(artifactId + "-1.0.jar"));
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Puts each source file in a project of its own, all sharing the same source set.
+     */
+    private static void inSeparateProjects(List<SourceFile> sources, JavaSourceSet sourceSet) {
+        for (int i = 0; i < sources.size(); i++) {
+            SourceFile source = sources.get(i);
+            sources.set(i, source.withMarkers(source.getMarkers()
+              .setByType(sourceSet)
+              .setByType(new JavaProject(Tree.randomId(), "project-" + i, null))));
+        }
+    }
+
+    private static boolean isSlf4jBindingPair(String gav1, String gav2) {
+        String gavs = gav1 + " " + gav2;
+        return gavs.contains("logback-classic") && gavs.contains("slf4j-nop");
+    }
+
     @Test
     void recipeHasCorrectMetadata() {
-        FindDuplicateClasses recipe = new FindDuplicateClasses();
+        FindDuplicateClasses recipe = new FindDuplicateClasses(null, null);
         assertThat(recipe.getDisplayName()).isEqualTo("Find duplicate classes on the classpath");
         assertThat(recipe.getDescription()).contains("duplicate");
         assertThat(recipe.getDescription()).contains("classpath");
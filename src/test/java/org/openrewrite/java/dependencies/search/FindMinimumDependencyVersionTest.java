@@ -17,9 +17,19 @@ package org.openrewrite.java.dependencies.search;
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.Tree;
+import org.openrewrite.java.dependencies.internal.VersionParser;
+import org.openrewrite.java.dependencies.table.VersionDistribution;
+import org.openrewrite.marker.Marker;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.maven.tree.ResolvedGroupArtifactVersion;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.gradle.Assertions.buildGradle;
 import static org.openrewrite.gradle.toolingapi.Assertions.withToolingApi;
 import static org.openrewrite.java.Assertions.mavenProject;
@@ -29,7 +39,7 @@ class FindMinimumDependencyVersionTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new FindMinimumDependencyVersion("com.fasterxml.jackson*", "jackson-core", "2.14-2.16"));
+        spec.recipe(new FindMinimumDependencyVersion("com.fasterxml.jackson*", "jackson-core", "2.14-2.16", null));
     }
 
     @DocumentExample
@@ -227,4 +237,120 @@ class FindMinimumDependencyVersionTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void mergeAccumulators() {
+        var first = new FindMinimumDependencyVersion.Accumulator();
+        first.scan(marker(), () -> project(gav("jackson-core", "2.15.0"), gav("jackson-databind", "2.14.0")));
+        var second = new FindMinimumDependencyVersion.Accumulator();
+        second.scan(marker(), () -> project(gav("jackson-core", "2.14.1"), gav("jackson-databind", "2.16.0")));
+
+        for (var merged : List.of(first.merge(second), second.merge(first))) {
+            assertThat(merged.minimums().values())
+              .extracting(minimum -> minimum.getGav().getVersion())
+              .containsExactlyInAnyOrder("2.14.1", "2.14.0");
+        }
+    }
+
+    @Test
+    void rescanReplacedMarker() {
+        var acc = new FindMinimumDependencyVersion.Accumulator();
+        Marker original = marker();
+        acc.scan(original, () -> project(gav("jackson-core", "2.14.0")));
+        assertThat(acc.located(minimums -> Set.of(minimums.values().iterator().next().getGav())))
+          .containsExactly(gav("jackson-core", "2.14.0"));
+
+        // Scanning the same marker again keeps its versions
+        acc.scan(original, () -> project(gav("jackson-core", "2.13.0")));
+        assertThat(acc.minimums().values())
+          .extracting(minimum -> minimum.getGav().getVersion())
+          .containsExactly("2.14.0");
+
+        // A recipe upgrading the dependency replaces the marker, keeping its id
+        acc.scan(new SearchResult(original.getId(), null), () -> project(gav("jackson-core", "2.16.0")));
+        assertThat(acc.located(minimums -> Set.of(minimums.values().iterator().next().getGav())))
+          .containsExactly(gav("jackson-core", "2.16.0"));
+    }
+
+    private static Marker marker() {
+        return new SearchResult(Tree.randomId(), null);
+    }
+
+    private static FindMinimumDependencyVersion.ProjectVersions project(ResolvedGroupArtifactVersion... gavs) {
+        VersionParser versionParser = new VersionParser();
+        var project = new FindMinimumDependencyVersion.ProjectVersions(false);
+        for (ResolvedGroupArtifactVersion gav : gavs) {
+            project.addVersion(gav, versionParser.transform(gav.getVersion()));
+        }
+        return project;
+    }
+
+    @Test
+    void versionDistribution() {
+        rewriteRun(
+          spec -> spec.recipe(new FindMinimumDependencyVersion("com.fasterxml.jackson*", "jackson-core", null, true))
+            .dataTable(VersionDistribution.Row.class, rows -> assertThat(rows).containsExactly(
+              new VersionDistribution.Row("com.fasterxml.jackson.core", "jackson-core", "2.14.0", 1, "2.14.0", "2.15.0"),
+              new VersionDistribution.Row("com.fasterxml.jackson.core", "jackson-core", "2.15.0", 1, "2.14.0", "2.15.0")
+            )),
+          mavenProject(
+            "core",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>org.openrewrite</groupId>
+                  <artifactId>core</artifactId>
+                  <version>0.1.0-SNAPSHOT</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-core</artifactId>
+                          <version>2.14.0</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <!--~~(com.fasterxml.jackson.core:jackson-core:2.14.0)~~>--><project>
+                  <groupId>org.openrewrite</groupId>
+                  <artifactId>core</artifactId>
+                  <version>0.1.0-SNAPSHOT</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-core</artifactId>
+                          <version>2.14.0</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          ),
+          mavenProject(
+            "server",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>org.openrewrite</groupId>
+                  <artifactId>server</artifactId>
+                  <version>0.1.0-SNAPSHOT</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-core</artifactId>
+                          <version>2.15.0</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    private static ResolvedGroupArtifactVersion gav(String artifactId, String version) {
+        return new ResolvedGroupArtifactVersion(null, "com.fasterxml.jackson.core", artifactId, version, null);
+    }
 }
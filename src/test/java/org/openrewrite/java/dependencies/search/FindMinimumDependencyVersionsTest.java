@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class FindMinimumDependencyVersionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindMinimumDependencyVersions(List.of(
+          "com.fasterxml.jackson*:jackson-core:2.14-2.16",
+          "com.google.guava:guava"
+        )));
+    }
+
+    @DocumentExample
+    @Test
+    void minimumOfEachPattern() {
+        rewriteRun(
+          mavenProject(
+            "core",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>org.openrewrite</groupId>
+                  <artifactId>core</artifactId>
+                  <version>0.1.0-SNAPSHOT</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-core</artifactId>
+                          <version>2.14.0</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.google.guava</groupId>
+                          <artifactId>guava</artifactId>
+                          <version>33.0.0-jre</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <!--~~(com.fasterxml.jackson.core:jackson-core:2.14.0)~~>--><project>
+                  <groupId>org.openrewrite</groupId>
+                  <artifactId>core</artifactId>
+                  <version>0.1.0-SNAPSHOT</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-core</artifactId>
+                          <version>2.14.0</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.google.guava</groupId>
+                          <artifactId>guava</artifactId>
+                          <version>33.0.0-jre</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          ),
+          mavenProject(
+            "server",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>org.openrewrite</groupId>
+                  <artifactId>server</artifactId>
+                  <version>0.1.0-SNAPSHOT</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-core</artifactId>
+                          <version>2.15.0</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.google.guava</groupId>
+                          <artifactId>guava</artifactId>
+                          <version>32.0.0-jre</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <!--~~(com.google.guava:guava:32.0.0-jre)~~>--><project>
+                  <groupId>org.openrewrite</groupId>
+                  <artifactId>server</artifactId>
+                  <version>0.1.0-SNAPSHOT</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-core</artifactId>
+                          <version>2.15.0</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.google.guava</groupId>
+                          <artifactId>guava</artifactId>
+                          <version>32.0.0-jre</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void validatesEachPattern() {
+        assertThat(new FindMinimumDependencyVersions(List.of("com.google.guava:guava", "junit:junit:4.x")).validate().isValid()).isTrue();
+        assertThat(new FindMinimumDependencyVersions(List.of("com.google.guava")).validate().isValid()).isFalse();
+        assertThat(new FindMinimumDependencyVersions(List.of("com.google.guava:guava, junit:junit:4.x")).validate().isValid()).isTrue();
+        assertThat(new FindMinimumDependencyVersions(List.of("com.google.guava:guava, junit")).validate().isValid()).isFalse();
+        assertThat(new FindMinimumDependencyVersions(List.of("junit:junit:4.x:test")).validate().isValid()).isFalse();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dependencies.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.dependencies.table.ModuleDependencyMatrix;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class ModuleHasDependenciesTest implements RewriteTest {
+
+    private static final List<String> PATTERNS = List.of(
+      "org.springframework:spring-beans",
+      "org.springframework:spring-beans:5.x",
+      "org.junit.jupiter:*::test"
+    );
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ModuleHasDependencies(PATTERNS, true));
+    }
+
+    @DocumentExample
+    @Test
+    void evaluatesEveryPatternAgainstEveryModule() {
+        rewriteRun(
+          spec -> spec.dataTable(ModuleDependencyMatrix.Row.class, rows -> assertThat(rows).containsExactlyInAnyOrder(
+            new ModuleDependencyMatrix.Row("foo", "org.springframework:spring-beans", true),
+            new ModuleDependencyMatrix.Row("foo", "org.springframework:spring-beans:5.x", false),
+            new ModuleDependencyMatrix.Row("foo", "org.junit.jupiter:*::test", false),
+            new ModuleDependencyMatrix.Row("bar", "org.springframework:spring-beans", false),
+            new ModuleDependencyMatrix.Row("bar", "org.springframework:spring-beans:5.x", false),
+            new ModuleDependencyMatrix.Row("bar", "org.junit.jupiter:*::test", true)
+          )),
+          mavenProject("foo",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>foo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.springframework</groupId>
+                      <artifactId>spring-beans</artifactId>
+                      <version>6.0.0</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <!--~~(Module has dependencies: org.springframework:spring-beans)~~>--><project>
+                  <groupId>com.example</groupId>
+                  <artifactId>foo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.springframework</groupId>
+                      <artifactId>spring-beans</artifactId>
+                      <version>6.0.0</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            //language=java
+            java(
+              "public class Foo {}",
+              "/*~~(Module has dependencies: org.springframework:spring-beans)~~>*/public class Foo {}"
+            )
+          ),
+          mavenProject("bar",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>bar</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.junit.jupiter</groupId>
+                      <artifactId>junit-jupiter-api</artifactId>
+                      <version>5.10.0</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <!--~~(Module has dependencies: org.junit.jupiter:*::test)~~>--><project>
+                  <groupId>com.example</groupId>
+                  <artifactId>bar</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.junit.jupiter</groupId>
+                      <artifactId>junit-jupiter-api</artifactId>
+                      <version>5.10.0</version>
+                      <scope>test</scope>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void tableOnlyByDefault() {
+        rewriteRun(
+          spec -> spec.recipe(new ModuleHasDependencies(PATTERNS, null))
+            .dataTable(ModuleDependencyMatrix.Row.class, rows -> assertThat(rows).hasSize(3)),
+          mavenProject("foo",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>foo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.springframework</groupId>
+                      <artifactId>spring-beans</artifactId>
+                      <version>6.0.0</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void rejectsUnknownScope() {
+        assertThat(new ModuleHasDependencies(List.of("org.springframework:spring-beans::everywhere"), null)
+          .validate().isInvalid()).isTrue();
+    }
+
+    @Test
+    void acceptsCommaSeparatedPatterns() {
+        assertThat(new ModuleHasDependencies(List.of("org.springframework:spring-beans, org.junit.jupiter:*::test"), null)
+          .validate().isValid()).isTrue();
+        assertThat(new ModuleHasDependencies(List.of("org.springframework:spring-beans, org.junit.jupiter:*::everywhere"), null)
+          .validate().isInvalid()).isTrue();
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.Parser;
+import org.openrewrite.java.dependencies.UpgradeDependencyVersion;
 import org.openrewrite.maven.MavenExecutionContextView;
 import org.openrewrite.maven.MavenSettings;
 import org.openrewrite.test.RecipeSpec;
@@ -153,7 +154,7 @@ class ModuleHasDependencyTest implements RewriteTest {
     @ValueSource(booleans = {false})
     void whenNoModuleDoesNotMark(Boolean invertCondition) {
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, invertCondition)),
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, invertCondition, null)),
           java(GradleJava)
         );
     }
@@ -161,7 +162,7 @@ class ModuleHasDependencyTest implements RewriteTest {
     @Test
     void whenNoModuleButInvertedMarkingMarks() {
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, true)),
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, true, null)),
           java(
             GradleJava,
             spec -> spec.after(actual ->
@@ -178,7 +179,7 @@ class ModuleHasDependencyTest implements RewriteTest {
     @ValueSource(booleans = {false})
     void whenModuleHasDirectDependencyMarks(Boolean invertCondition) {
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, invertCondition)),
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, invertCondition, null)),
           mavenProject("project-gradle",
             buildGradle(
               GradleDirect,
@@ -218,10 +219,28 @@ class ModuleHasDependencyTest implements RewriteTest {
         );
     }
 
+    @Test
+    void markBuildFilesOnly() {
+        rewriteRun(
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, null, true)),
+          mavenProject("project-maven",
+            pomXml(
+              MavenDirect,
+              spec -> spec.after(actual ->
+                assertThat(actual)
+                  .startsWith(MavenMarkerPositive)
+                  .actual()
+              )
+            ),
+            java(MavenJava)
+          )
+        );
+    }
+
     @Test
     void whenModuleHasDirectDependencyButInvertedMarkingDoesNotMark() {
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, true)),
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, true, null)),
           mavenProject("project",
             buildGradle(GradleDirect),
             java(GradleJava)
@@ -238,7 +257,7 @@ class ModuleHasDependencyTest implements RewriteTest {
     @ValueSource(booleans = {false})
     void whenModuleHasTransitiveDependencyMarks(Boolean invertCondition) {
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, invertCondition)),
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, invertCondition, null)),
           mavenProject("project-gradle",
             buildGradle(
               GradleTransitive,
@@ -281,7 +300,7 @@ class ModuleHasDependencyTest implements RewriteTest {
     @Test
     void whenModuleHasTransitiveDependencyButInvertedMarkingDoesNotMark() {
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, true)),
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, true, null)),
           mavenProject("project",
             buildGradle(GradleTransitive),
             java(GradleJava)
@@ -298,7 +317,7 @@ class ModuleHasDependencyTest implements RewriteTest {
     @ValueSource(booleans = {false})
     void whenModuleDoesNotHaveDependencyDoesNotMark(Boolean invertCondition) {
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, invertCondition)),
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, invertCondition, null)),
           mavenProject("project-gradle",
             buildGradle(GradleNone),
             java(GradleJava)
@@ -313,7 +332,7 @@ class ModuleHasDependencyTest implements RewriteTest {
     @Test
     void whenModuleDoesNotHaveDependencyButInvertedMarkingMarks() {
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, true)),
+          spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, true, null)),
           mavenProject("project",
             buildGradle(
               GradleNone,
@@ -385,7 +404,7 @@ class ModuleHasDependencyTest implements RewriteTest {
         @Test
         void gradleMatchesOnRequested() {
             rewriteRun(
-              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, null)),
+              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, null, null)),
               mavenProject("project-gradle",
                 buildGradle(
                   GradleNoRepositories,
@@ -420,7 +439,7 @@ class ModuleHasDependencyTest implements RewriteTest {
                           xsi:schemaLocation="http://maven.apache.org/SETTINGS/1.0.0 http://maven.apache.org/xsd/settings-1.0.0.xsd"/>
                       """.getBytes())), ctx);
                   ctx.setMavenSettings(emptySettings);
-                  spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, null))
+                  spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, null, null, null))
                     .executionContext(ctx);
               },
               mavenProject("project-maven",
@@ -447,7 +466,7 @@ class ModuleHasDependencyTest implements RewriteTest {
         @Test
         void gradleVersionRangeOnRequestedDoesNotMatchWhenOutOfRange() {
             rewriteRun(
-              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, "[7.0,)", null)),
+              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, "[7.0,)", null, null)),
               mavenProject("project-gradle",
                 buildGradle(GradleNoRepositories),
                 java(GradleJava)
@@ -469,7 +488,7 @@ class ModuleHasDependencyTest implements RewriteTest {
         void gradleRequestedWithoutVersionAndConstraintDoesNotMatch() {
             // Force resolution failure (no repositories), so the requested fallback fires.
             rewriteRun(
-              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, "[1.0,)", null)),
+              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, "[1.0,)", null, null)),
               mavenProject("project-gradle",
                 buildGradle(GradleNoRepositoriesNoVersion),
                 java(GradleJava)
@@ -503,7 +522,7 @@ class ModuleHasDependencyTest implements RewriteTest {
         void gradleVersionRangeDoesNotMatchDeclaredWhenResolvedVersionIsOutOfRange() {
             // The declared-dependency fallback must be skipped for an already-resolved coordinate (resolutionStrategy).
             rewriteRun(
-              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, "[5.0,6.0)", null)),
+              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, "[5.0,6.0)", null, null)),
               mavenProject("project-gradle",
                 buildGradle(GradleForcedOutOfRange),
                 java(GradleJava)
@@ -541,7 +560,7 @@ class ModuleHasDependencyTest implements RewriteTest {
         void mavenVersionRangeDoesNotMatchBomManagedDependencyWhenResolvedIsOutOfRange() {
             // Regression for rewrite-third-party#76: BOM-managed version (null on requested) must not match the range.
             rewriteRun(
-              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, "[5.0,6.0)", null)),
+              spec -> spec.recipe(new ModuleHasDependency(GroupId, ArtifactId, null, "[5.0,6.0)", null, null)),
               mavenProject("project-maven",
                 pomXml(MavenBomManagedOutOfRange),
                 java(MavenJava)
@@ -561,7 +580,7 @@ class WithVersionsPattern {
     })
     void maven(String versionPattern) {
         rewriteRun(
-          recipeSpec -> recipeSpec.recipe(new ModuleHasDependency("jakarta.data", "*", null, versionPattern, null)),
+          recipeSpec -> recipeSpec.recipe(new ModuleHasDependency("jakarta.data", "*", null, versionPattern, null, null)),
           mavenProject("project-maven",
             //language=xml
             pomXml(
@@ -619,7 +638,7 @@ class WithVersionsPattern {
     })
     void gradle(String versionPattern) {
         rewriteRun(
-          recipeSpec -> recipeSpec.recipe(new ModuleHasDependency("jakarta.data", "*", null, versionPattern, null)),
+          recipeSpec -> recipeSpec.recipe(new ModuleHasDependency("jakarta.data", "*", null, versionPattern, null, null)),
           mavenProject("project-maven",
             //language=groovy
             buildGradle(
@@ -661,7 +680,7 @@ class WithVersionsPattern {
         var mavenMarker = "<!--~~%s>-->".formatted(negativeSub);
         var javaMarker = "/*~~%s>*/".formatted(negativeSub);
         rewriteRun(
-          spec -> spec.recipe(new ModuleHasDependency(groupId, artifactId, null, versionRange, true)),
+          spec -> spec.recipe(new ModuleHasDependency(groupId, artifactId, null, versionRange, true, null)),
           // Module with old Kotlin (2.1.0) — should NOT be marked
           mavenProject("old-kotlin",
             pomXml(
@@ -742,10 +761,54 @@ class WithVersionsPattern {
         );
     }
 
+    @Test
+    void matchesDependencyChangedInEarlierCycle() {
+        rewriteRun(
+          spec -> spec
+            .recipes(
+              new UpgradeDependencyVersion("com.google.guava", "guava", "30.1-jre", null, null, null),
+              new ModuleHasDependency("com.google.guava", "guava", null, "30.1-jre", null, true))
+            .expectedCyclesThatMakeChanges(2),
+          mavenProject("project-maven",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>foo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>com.google.guava</groupId>
+                      <artifactId>guava</artifactId>
+                      <version>29.0-jre</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <!--~~(Module has dependency: com.google.guava:guava:30.1-jre)~~>--><project>
+                  <groupId>com.example</groupId>
+                  <artifactId>foo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>com.google.guava</groupId>
+                      <artifactId>guava</artifactId>
+                      <version>30.1-jre</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
     @Test
     void noPresentVersion() {
         rewriteRun(
-          recipeSpec -> recipeSpec.recipe(new ModuleHasDependency("org.springframework", "*", null, "5.1.2", null)),
+          recipeSpec -> recipeSpec.recipe(new ModuleHasDependency("org.springframework", "*", null, "5.1.2", null, null)),
           mavenProject("project-maven",
             //language=groovy
             buildGradle(
@@ -97,7 +97,7 @@ class RepositoryHasDependencyTest implements RewriteTest {
     void gradleVersionRangeDoesNotMatchDeclaredWhenResolvedVersionIsOutOfRange() {
         // The declared-dependency fallback must be skipped for an already-resolved coordinate (resolutionStrategy).
         rewriteRun(
-          spec -> spec.recipe(new RepositoryHasDependency("org.springframework", "spring-beans", null, "[5.0,6.0)")),
+          spec -> spec.recipe(new RepositoryHasDependency("org.springframework", "spring-beans", null, "[5.0,6.0)", null)),
           mavenProject("project-gradle",
             //language=groovy
             buildGradle("""
@@ -121,11 +121,53 @@ class RepositoryHasDependencyTest implements RewriteTest {
         );
     }
 
+    @Test
+    void markBuildFilesOnly() {
+        rewriteRun(
+          spec -> spec.recipe(new RepositoryHasDependency("org.springframework", "spring-beans", null, null, true)),
+          mavenProject("project-maven",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>foo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.springframework</groupId>
+                      <artifactId>spring-beans</artifactId>
+                      <version>6.0.0</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """,
+              """
+                <!--~~(Repository has dependency: org.springframework:spring-beans)~~>--><project>
+                  <groupId>com.example</groupId>
+                  <artifactId>foo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.springframework</groupId>
+                      <artifactId>spring-beans</artifactId>
+                      <version>6.0.0</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """
+            ),
+            //language=java
+            java("public class A {}")
+          )
+        );
+    }
+
     @Test
     void mavenVersionRangeDoesNotMatchBomManagedDependencyWhenResolvedIsOutOfRange() {
         // Regression for rewrite-third-party#76: BOM-managed version (null on requested) must not match the range.
         rewriteRun(
-          spec -> spec.recipe(new RepositoryHasDependency("org.springframework", "spring-beans", null, "[5.0,6.0)")),
+          spec -> spec.recipe(new RepositoryHasDependency("org.springframework", "spring-beans", null, "[5.0,6.0)", null)),
           mavenProject("project-maven",
             //language=xml
             pomXml("""
@@ -160,7 +202,7 @@ class RepositoryHasDependencyTest implements RewriteTest {
     void gradleRequestedWithoutVersionAndConstraintDoesNotMatch() {
         // Force resolution failure (no repositories), so the requested fallback fires.
         rewriteRun(
-          spec -> spec.recipe(new RepositoryHasDependency("org.springframework", "spring-beans", null, "[1.0,)")),
+          spec -> spec.recipe(new RepositoryHasDependency("org.springframework", "spring-beans", null, "[1.0,)", null)),
           mavenProject("project-gradle",
             //language=groovy
             buildGradle("""